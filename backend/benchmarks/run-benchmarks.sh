@@ -0,0 +1,15 @@
+#!/usr/bin/env bash
+set -e
+
+cd "$(dirname "$0")"
+
+revision=$(git rev-parse --short HEAD 2>/dev/null || echo local)
+mkdir -p results
+
+echo "Building benchmarks..."
+../mvnw -q -f pom.xml package
+
+echo "Running benchmarks for ${revision}..."
+java -jar target/benchmarks.jar -rf json -rff "results/jmh-${revision}.json" "$@"
+
+echo "Results written to results/jmh-${revision}.json"
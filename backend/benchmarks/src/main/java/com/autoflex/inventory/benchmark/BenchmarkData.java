@@ -0,0 +1,33 @@
+package com.autoflex.inventory.benchmark;
+
+import com.autoflex.inventory.entity.Product;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+final class BenchmarkData {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private BenchmarkData() {}
+
+    static List<Product> products(int count) {
+        Random random = new Random(42);
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Product product = new Product();
+            product.id = (long) i + 1;
+            product.code = String.format("PRD-%06d", i);
+            product.name = "Benchmark product " + i;
+            product.value = BigDecimal.valueOf(1 + random.nextDouble() * 999).setScale(2, RoundingMode.HALF_UP);
+            product.createdAt = TIMESTAMP;
+            product.updatedAt = TIMESTAMP;
+            products.add(product);
+        }
+        return products;
+    }
+}
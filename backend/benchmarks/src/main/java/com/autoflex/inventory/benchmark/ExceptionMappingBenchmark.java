@@ -0,0 +1,38 @@
+package com.autoflex.inventory.benchmark;
+
+import com.autoflex.inventory.exception.GlobalExceptionHandler;
+import com.autoflex.inventory.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.ws.rs.core.Response;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionMappingBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(new SimpleMeterRegistry());
+    private final Exception notFound = new ResourceNotFoundException("Product not found with id: 42");
+    private final Exception badRequest = new IllegalArgumentException("Product code already exists: PRD-000042");
+    private final Exception unexpected = new IllegalStateException("Connection reset");
+
+    @Benchmark
+    public Response notFound() {
+        return handler.toResponse(notFound);
+    }
+
+    @Benchmark
+    public Response badRequest() {
+        return handler.toResponse(badRequest);
+    }
+
+    @Benchmark
+    public Response unexpected() {
+        return handler.toResponse(unexpected);
+    }
+}
@@ -0,0 +1,105 @@
+package com.autoflex.inventory.benchmark;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.autoflex.inventory.dto.ProductResponse;
+import com.autoflex.inventory.service.ProductService;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encodes a product list in each response format the API negotiates, optionally compressed the way the HTTP layer
+ * would. The {@code wireBytes} counter reports the encoded size of one response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductFormatBenchmark {
+
+    @Param({"100", "10000"})
+    int size;
+
+    @Param({"json", "cbor", "smile"})
+    String format;
+
+    @Param({"none", "gzip", "br"})
+    String compression;
+
+    // Netty's default Brotli quality, which the HTTP layer uses unless configured otherwise.
+    private static final Encoder.Parameters BROTLI = new Encoder.Parameters().setQuality(4);
+
+    private ObjectWriter writer;
+    private List<ProductResponse> responses;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WireSize {
+        public long wireBytes;
+    }
+
+    @Setup
+    public void setup() {
+        JsonFactory factory;
+        switch (format) {
+            case "cbor":
+                factory = new CBORFactory();
+                break;
+            case "smile":
+                factory = new SmileFactory();
+                break;
+            default:
+                factory = new JsonFactory();
+                break;
+        }
+        // Same defaults the Quarkus Jackson extension applies to the application's ObjectMapper.
+        ObjectMapper mapper = new ObjectMapper(factory)
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        writer = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, ProductResponse.class));
+        responses = BenchmarkData.products(size).stream()
+            .map(ProductService::toResponse)
+            .collect(Collectors.toList());
+        if ("br".equals(compression)) {
+            Brotli4jLoader.ensureAvailability();
+        }
+    }
+
+    @Benchmark
+    public byte[] encodeList(WireSize wireSize) throws IOException {
+        byte[] body = writer.writeValueAsBytes(responses);
+        switch (compression) {
+            case "gzip":
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4);
+                try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+                    gzip.write(body);
+                }
+                body = buffer.toByteArray();
+                break;
+            case "br":
+                body = Encoder.compress(body, BROTLI);
+                break;
+            default:
+                break;
+        }
+        wireSize.wireBytes = body.length;
+        return body;
+    }
+}
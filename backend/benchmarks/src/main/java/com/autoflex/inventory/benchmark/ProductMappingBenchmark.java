@@ -0,0 +1,38 @@
+package com.autoflex.inventory.benchmark;
+
+import com.autoflex.inventory.dto.ProductResponse;
+import com.autoflex.inventory.entity.Product;
+import com.autoflex.inventory.service.ProductService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductMappingBenchmark {
+
+    @Param({"1", "100", "1000"})
+    int size;
+
+    private List<Product> products;
+
+    @Setup
+    public void setup() {
+        products = BenchmarkData.products(size);
+    }
+
+    @Benchmark
+    public List<ProductResponse> toResponse() {
+        List<ProductResponse> responses = new ArrayList<>(products.size());
+        for (Product product : products) {
+            responses.add(ProductService.toResponse(product));
+        }
+        return responses;
+    }
+}
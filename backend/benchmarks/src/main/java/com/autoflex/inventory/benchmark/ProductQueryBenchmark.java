@@ -0,0 +1,118 @@
+package com.autoflex.inventory.benchmark;
+
+import com.autoflex.inventory.dto.ProductResponse;
+import com.autoflex.inventory.entity.Product;
+import com.autoflex.inventory.repository.ProductProjection;
+import com.autoflex.inventory.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.jpa.HibernatePersistenceConfiguration;
+import org.hibernate.tool.schema.Action;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the JPQL issued by {@code ProductRepository}, through its own query constants and projections, against an
+ * in-memory H2 database, so plan or mapping regressions show up without a PostgreSQL server. Native PostgreSQL
+ * queries (trigram search, percentiles, bulk updates) are not covered here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductQueryBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"1000", "10000"})
+    int rows;
+
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private long middleId;
+    private List<String> codes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        sessionFactory = new HibernatePersistenceConfiguration("benchmark")
+            .managedClass(Product.class)
+            .jdbcUrl("jdbc:h2:mem:benchmark-" + rows + ";MODE=PostgreSQL;NON_KEYWORDS=VALUE;DB_CLOSE_DELAY=-1")
+            .jdbcCredentials("sa", "")
+            .schemaToolingAction(Action.CREATE_DROP)
+            .property("hibernate.jdbc.batch_size", 50)
+            .createEntityManagerFactory();
+
+        List<Product> products = BenchmarkData.products(rows);
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            session.getTransaction().begin();
+            for (Product product : products) {
+                product.id = null;
+                session.insert(product);
+            }
+            session.getTransaction().commit();
+        }
+        middleId = products.get(rows / 2).id;
+        codes = products.subList(0, PAGE_SIZE).stream().map(product -> product.code).toList();
+        entityManager = sessionFactory.createEntityManager();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        sessionFactory.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void clear() {
+        entityManager.clear();
+    }
+
+    @Benchmark
+    public List<ProductResponse> findPageAfter() {
+        return ProductRepository.select(entityManager, ProductProjection.RESPONSE, ProductRepository.PAGE_AFTER,
+            PAGE_SIZE + 1, middleId);
+    }
+
+    @Benchmark
+    public List<ProductResponse> findById() {
+        return ProductRepository.select(entityManager, ProductProjection.RESPONSE, ProductRepository.BY_ID, 1,
+            middleId);
+    }
+
+    @Benchmark
+    public List<ProductResponse> findByValueRange() {
+        return ProductRepository.select(entityManager, ProductProjection.RESPONSE, ProductRepository.VALUE_RANGE, 0,
+            new BigDecimal("100.00"), new BigDecimal("200.00"));
+    }
+
+    @Benchmark
+    public List<ProductResponse> findAllOrderByValueDesc() {
+        return ProductRepository.select(entityManager, ProductProjection.RESPONSE,
+            ProductRepository.ORDER_BY_VALUE_DESC, 0);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> findByValueRangeSparse() {
+        return ProductRepository.select(entityManager, ProductProjection.fields("code,value"),
+            ProductRepository.VALUE_RANGE, 0, new BigDecimal("100.00"), new BigDecimal("200.00"));
+    }
+
+    @Benchmark
+    public Object[] aggregateValues() {
+        return entityManager.createQuery(ProductRepository.AGGREGATE_VALUES, Object[].class).getSingleResult();
+    }
+
+    @Benchmark
+    public List<String> findExistingCodes() {
+        return entityManager.createQuery(ProductRepository.EXISTING_CODES, String.class)
+            .setParameter("codes", codes)
+            .getResultList();
+    }
+}
@@ -0,0 +1,150 @@
+package com.autoflex.inventory.benchmark;
+
+import com.autoflex.inventory.entity.RawMaterial;
+import com.autoflex.inventory.repository.RawMaterialRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.jpa.HibernatePersistenceConfiguration;
+import org.hibernate.tool.schema.Action;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Production orders per second against the number of threads, each order taking stock from {@code bom} random
+ * materials out of {@code materials} with the conditional per-row update {@code RawMaterialRepository.takeStock}
+ * issues. {@code serialized16} runs the same orders one at a time, as a table-level lock would, for comparison. Runs
+ * on an in-memory H2 database, so absolute numbers are lower than on PostgreSQL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StockReservationBenchmark {
+
+    private static final int STOCK = 1_000_000_000;
+
+    @Param({"1", "16", "256"})
+    int materials;
+
+    @Param({"3"})
+    int bom;
+
+    private SessionFactory sessionFactory;
+    private long[] materialIds;
+    private final ReentrantLock tableLock = new ReentrantLock();
+
+    @State(Scope.Thread)
+    public static class Session {
+
+        EntityManager entityManager;
+
+        @Setup(Level.Trial)
+        public void open(StockReservationBenchmark benchmark) {
+            entityManager = benchmark.sessionFactory.createEntityManager();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            entityManager.close();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        sessionFactory = new HibernatePersistenceConfiguration("benchmark")
+            .managedClass(RawMaterial.class)
+            .jdbcUrl("jdbc:h2:mem:stock-" + materials + ";MODE=PostgreSQL;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1")
+            .jdbcCredentials("sa", "")
+            .schemaToolingAction(Action.CREATE_DROP)
+            .property("hibernate.connection.pool_size", 64)
+            .createEntityManagerFactory();
+
+        materialIds = new long[materials];
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            session.getTransaction().begin();
+            for (int i = 0; i < materials; i++) {
+                RawMaterial material = new RawMaterial(String.format("MAT-%05d", i), "Material " + i, STOCK);
+                session.insert(material);
+                materialIds[i] = material.id;
+            }
+            session.getTransaction().commit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int threads1(Session session) {
+        return reserve(session.entityManager);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int threads4(Session session) {
+        return reserve(session.entityManager);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public int threads16(Session session) {
+        return reserve(session.entityManager);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public int serialized16(Session session) {
+        tableLock.lock();
+        try {
+            return reserve(session.entityManager);
+        } finally {
+            tableLock.unlock();
+        }
+    }
+
+    private int reserve(EntityManager entityManager) {
+        List<Long> order = nextOrder();
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.getTransaction().begin();
+        try {
+            int taken = 0;
+            for (Long materialId : order) {
+                taken += entityManager.createQuery(RawMaterialRepository.TAKE_STOCK)
+                    .setParameter(1, 1)
+                    .setParameter(2, now)
+                    .setParameter(3, materialId)
+                    .executeUpdate();
+            }
+            entityManager.getTransaction().commit();
+            return taken;
+        } catch (RuntimeException e) {
+            entityManager.getTransaction().rollback();
+            throw e;
+        }
+    }
+
+    // Distinct materials in ascending ID order, the lock order the service uses.
+    private List<Long> nextOrder() {
+        int size = Math.min(bom, materials);
+        int first = ThreadLocalRandom.current().nextInt(materials);
+        int stride = 1 + ThreadLocalRandom.current().nextInt(Math.max(1, materials / size));
+        List<Long> order = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            order.add(materialIds[(first + i * stride) % materials]);
+        }
+        order.sort(null);
+        return order;
+    }
+}
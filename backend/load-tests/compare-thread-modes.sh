@@ -0,0 +1,46 @@
+#!/usr/bin/env bash
+set -e
+
+# Builds the application twice (worker pool, then virtual threads with the java21 profile), runs each build with the
+# dev profile and drives it with the same high-concurrency load test. Requires JDK 21 and a running PostgreSQL.
+
+cd "$(dirname "$0")"
+
+RATE=${RATE:-2000}
+DURATION=${DURATION:-60}
+MAX_IN_FLIGHT=${MAX_IN_FLIGHT:-4096}
+
+run_mode() {
+  local mode="$1"
+  local profile="$2"
+
+  echo "Building ${mode} mode..."
+  ../mvnw -q -f ../pom.xml clean package -DskipTests ${profile}
+
+  java -Dquarkus.profile=dev -Dquarkus.hibernate-orm.log.sql=false -jar ../target/quarkus-app/quarkus-run.jar \
+    > "target/${mode}-app.log" 2>&1 &
+  local pid=$!
+  trap "kill ${pid} 2>/dev/null || true" EXIT
+
+  until curl -sf http://localhost:8080/api/products/health > /dev/null; do
+    sleep 1
+  done
+
+  ../mvnw -q -f pom.xml verify -Dload.rate="${RATE}" -Dload.duration="${DURATION}" \
+    -Dload.max-in-flight="${MAX_IN_FLIGHT}" -Dload.output-dir="target/load-test/${mode}" "${@:3}" \
+    || echo "Thresholds breached in ${mode} mode"
+
+  kill "${pid}"
+  wait "${pid}" 2>/dev/null || true
+  trap - EXIT
+}
+
+mkdir -p target
+run_mode worker "" "$@"
+run_mode virtual "-Pjava21" "$@"
+
+for mode in worker virtual; do
+  echo
+  echo "== ${mode} threads"
+  cat "target/load-test/${mode}/summary.txt"
+done
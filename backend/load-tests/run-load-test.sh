@@ -0,0 +1,7 @@
+#!/usr/bin/env bash
+set -e
+
+cd "$(dirname "$0")"
+
+echo "Running load test against ${LOAD_BASE_URL:-http://localhost:8080} (start it with ./mvnw quarkus:dev)..."
+../mvnw -q -f pom.xml verify -Dload.base-url="${LOAD_BASE_URL:-http://localhost:8080}" "$@"
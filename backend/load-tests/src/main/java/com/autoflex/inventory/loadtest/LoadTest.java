@@ -0,0 +1,291 @@
+package com.autoflex.inventory.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-model load test for the product API. Requests are issued on a fixed schedule and latency is measured
+ * from the scheduled send time, so a stalled server shows up in the tail instead of silently lowering the rate.
+ */
+public class LoadTest {
+
+    private static final int SEED_CHUNK = 1000;
+    private static final int DELETE_CHUNK = 10000;
+    private static final String[] WORDS = {"bolt", "gear", "valve", "shaft", "panel", "spring", "bracket", "sensor"};
+
+    private final LoadTestConfig config;
+    private final HttpClient client;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36).toUpperCase(Locale.ROOT);
+    private final AtomicLong createdCodes = new AtomicLong();
+    private final List<Long> productIds = new ArrayList<>();
+    private final List<String> productCodes = new ArrayList<>();
+
+    LoadTest(LoadTestConfig config) {
+        this.config = config;
+        this.client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        System.out.println("Running load test: " + config);
+
+        LoadTest loadTest = new LoadTest(config);
+        List<String> violations = loadTest.run();
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("Load test thresholds breached:\n  " + String.join("\n  ", violations));
+        }
+        System.out.println("All load test thresholds met");
+    }
+
+    List<String> run() throws Exception {
+        checkApplication();
+        seed();
+        try {
+            List<Scenario> scenarios = scenarios();
+            System.out.printf("Warming up for %ds%n", config.warmup.toSeconds());
+            drive(scenarios, config.warmup);
+            scenarios.forEach(Scenario::reset);
+
+            System.out.printf("Measuring for %ds at %d req/s%n", config.duration.toSeconds(), config.rate);
+            long elapsedNanos = drive(scenarios, config.duration);
+            return report(scenarios, elapsedNanos);
+        } finally {
+            if (Boolean.parseBoolean(System.getProperty("load.cleanup", "true"))) {
+                cleanup();
+            }
+        }
+    }
+
+    private void checkApplication() throws InterruptedException {
+        try {
+            HttpResponse<Void> response = client.send(get("/api/products/health"), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() == 200) {
+                return;
+            }
+        } catch (IOException e) {
+            // reported below
+        }
+        throw new IllegalStateException("Product API is not reachable at " + config.baseUrl +
+            "; start it with ./mvnw quarkus:dev before running the load test");
+    }
+
+    private void seed() throws IOException, InterruptedException {
+        System.out.printf("Seeding %d products (run %s)%n", config.products, runId);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int start = 0; start < config.products; start += SEED_CHUNK) {
+            ArrayNode chunk = mapper.createArrayNode();
+            for (int i = start; i < Math.min(start + SEED_CHUNK, config.products); i++) {
+                chunk.add(product(String.format("LT-%s-%06d", runId, i), name(random, i), value(random)));
+            }
+            HttpResponse<String> response = client.send(post("/api/products/import", chunk),
+                HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Seeding failed with HTTP " + response.statusCode() + ": " + response.body());
+            }
+            for (JsonNode row : mapper.readTree(response.body()).get("rows")) {
+                if (row.get("success").asBoolean()) {
+                    productIds.add(row.get("id").asLong());
+                    productCodes.add(row.get("code").asText());
+                }
+            }
+        }
+        if (productIds.isEmpty()) {
+            throw new IllegalStateException("No products could be seeded");
+        }
+    }
+
+    private List<Scenario> scenarios() {
+        List<Scenario> scenarios = new ArrayList<>();
+        add(scenarios, "list", 10, () -> get(config.apiPath + "?limit=50&after=" + randomId()));
+        add(scenarios, "get-by-id", 30, () -> get(config.apiPath + "/" + randomId()));
+        add(scenarios, "get-by-code", 20, () -> get(config.apiPath + "/code/" + randomCode()));
+        add(scenarios, "search", 15, () -> get("/api/products/search?name=" +
+            URLEncoder.encode(WORDS[ThreadLocalRandom.current().nextInt(WORDS.length)], StandardCharsets.UTF_8)));
+        add(scenarios, "value-range", 10, () -> {
+            int min = ThreadLocalRandom.current().nextInt(1, 900);
+            return get(config.apiPath + "/filter/value-range?min=" + min + "&max=" + (min + 25));
+        });
+        add(scenarios, "create", 5, () -> post(config.apiPath, product(
+            String.format("LT-%s-N%07d", runId, createdCodes.incrementAndGet()),
+            name(ThreadLocalRandom.current(), 0), value(ThreadLocalRandom.current()))));
+        add(scenarios, "update", 10, () -> {
+            int index = ThreadLocalRandom.current().nextInt(productIds.size());
+            ObjectNode body = product(productCodes.get(index), name(ThreadLocalRandom.current(), index),
+                value(ThreadLocalRandom.current()));
+            return HttpRequest.newBuilder(uri(config.apiPath + "/" + productIds.get(index)))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+        });
+        return scenarios;
+    }
+
+    private void add(List<Scenario> scenarios, String name, int defaultWeight,
+                     Supplier<HttpRequest> request) {
+        int weight = config.weight(name, defaultWeight);
+        if (weight > 0) {
+            scenarios.add(new Scenario(name, weight, request));
+        }
+    }
+
+    private long drive(List<Scenario> scenarios, Duration phase) throws InterruptedException {
+        if (phase.isZero()) {
+            return 0;
+        }
+        int totalWeight = scenarios.stream().mapToInt(scenario -> scenario.weight).sum();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate;
+        long requests = phase.toSeconds() * config.rate;
+        Semaphore inFlight = new Semaphore(config.maxInFlight);
+
+        long start = System.nanoTime();
+        for (long i = 0; i < requests; i++) {
+            long intended = start + i * intervalNanos;
+            long delay = intended - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            Scenario scenario = pick(scenarios, totalWeight);
+            HttpRequest request = scenario.request.get();
+            inFlight.acquire();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    long latencyMicros = (System.nanoTime() - intended) / 1000;
+                    boolean success = failure == null && response.statusCode() < 400;
+                    scenario.record(latencyMicros, success);
+                    inFlight.release();
+                });
+        }
+        if (!inFlight.tryAcquire(config.maxInFlight, 60, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Requests still in flight 60s after the end of the run");
+        }
+        return System.nanoTime() - start;
+    }
+
+    private List<String> report(List<Scenario> scenarios, long elapsedNanos) throws IOException {
+        Files.createDirectories(config.outputDir);
+        double seconds = elapsedNanos / 1e9;
+        List<String> violations = new ArrayList<>();
+
+        StringBuilder summary = new StringBuilder(String.format("%-12s %8s %10s %9s %9s %9s %9s %7s%n",
+            "scenario", "count", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "errors"));
+        for (Scenario scenario : scenarios) {
+            summary.append(String.format(Locale.ROOT, "%-12s %8d %10.1f %9.2f %9.2f %9.2f %9.2f %7d%n",
+                scenario.name, scenario.count(), scenario.count() / seconds, scenario.percentileMillis(50),
+                scenario.percentileMillis(99), scenario.percentileMillis(99.9),
+                scenario.latency.getMaxValue() / 1000.0, scenario.errors.sum()));
+
+            try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(config.outputDir.resolve(scenario.name + ".hgrm")), true, StandardCharsets.UTF_8)) {
+                scenario.latency.outputPercentileDistribution(out, 1000.0);
+            }
+
+            check(violations, scenario, "p50", 50, 50);
+            check(violations, scenario, "p99", 99, 250);
+            check(violations, scenario, "p999", 99.9, 1000);
+            if (scenario.errorRate() > config.maxErrorRate()) {
+                violations.add(String.format(Locale.ROOT, "%s error rate %.4f > %.4f",
+                    scenario.name, scenario.errorRate(), config.maxErrorRate()));
+            }
+        }
+        long total = scenarios.stream().mapToLong(Scenario::count).sum();
+        summary.append(String.format(Locale.ROOT, "total %d requests in %.1fs, %.1f req/s%n", total, seconds, total / seconds));
+
+        System.out.print(summary);
+        Files.writeString(config.outputDir.resolve("summary.txt"), summary.toString());
+        System.out.println("Latency histograms written to " + config.outputDir.toAbsolutePath());
+        return violations;
+    }
+
+    private void check(List<String> violations, Scenario scenario, String name, double percentile, double defaultMillis) {
+        double threshold = config.thresholdMillis(scenario.name, name, defaultMillis);
+        double actual = scenario.percentileMillis(percentile);
+        if (actual > threshold) {
+            violations.add(String.format(Locale.ROOT, "%s %s %.2f ms > %.2f ms", scenario.name, name, actual, threshold));
+        }
+    }
+
+    private void cleanup() throws IOException, InterruptedException {
+        List<String> codes = new ArrayList<>(productCodes);
+        for (long i = 1; i <= createdCodes.get(); i++) {
+            codes.add(String.format("LT-%s-N%07d", runId, i));
+        }
+        for (int start = 0; start < codes.size(); start += DELETE_CHUNK) {
+            ObjectNode body = mapper.createObjectNode();
+            ArrayNode chunk = body.putArray("codes");
+            codes.subList(start, Math.min(start + DELETE_CHUNK, codes.size())).forEach(chunk::add);
+            client.send(post("/api/products/bulk/delete", body), HttpResponse.BodyHandlers.discarding());
+        }
+    }
+
+    private long randomId() {
+        return productIds.get(ThreadLocalRandom.current().nextInt(productIds.size()));
+    }
+
+    private String randomCode() {
+        return productCodes.get(ThreadLocalRandom.current().nextInt(productCodes.size()));
+    }
+
+    private ObjectNode product(String code, String name, BigDecimal value) {
+        return mapper.createObjectNode().put("code", code).put("name", name).put("value", value);
+    }
+
+    private static String name(ThreadLocalRandom random, int index) {
+        return "Load " + WORDS[random.nextInt(WORDS.length)] + " " + index;
+    }
+
+    private static BigDecimal value(ThreadLocalRandom random) {
+        return BigDecimal.valueOf(random.nextInt(100, 100000), 2);
+    }
+
+    private static Scenario pick(List<Scenario> scenarios, int totalWeight) {
+        int point = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Scenario scenario : scenarios) {
+            point -= scenario.weight;
+            if (point < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).timeout(Duration.ofSeconds(30)).GET().build();
+    }
+
+    private HttpRequest post(String path, JsonNode body) {
+        return HttpRequest.newBuilder(uri(path))
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+            .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create(config.baseUrl + path);
+    }
+}
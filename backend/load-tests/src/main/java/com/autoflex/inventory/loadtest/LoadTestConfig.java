@@ -0,0 +1,72 @@
+package com.autoflex.inventory.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+final class LoadTestConfig {
+
+    final String baseUrl;
+    final String apiPath;
+    final int products;
+    final int rate;
+    final Duration warmup;
+    final Duration duration;
+    final int maxInFlight;
+    final Path outputDir;
+
+    private LoadTestConfig() {
+        baseUrl = string("load.base-url", "http://localhost:8080");
+        apiPath = string("load.api-path", "/api/products");
+        products = integer("load.products", 1000);
+        rate = integer("load.rate", 200);
+        warmup = Duration.ofSeconds(integer("load.warmup", 10));
+        duration = Duration.ofSeconds(integer("load.duration", 30));
+        maxInFlight = integer("load.max-in-flight", 512);
+        outputDir = Path.of(string("load.output-dir", "target/load-test"));
+        if (products < 1 || rate < 1 || duration.isZero()) {
+            throw new IllegalArgumentException("load.products, load.rate and load.duration must be positive");
+        }
+    }
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig();
+    }
+
+    int weight(String scenario, int defaultWeight) {
+        return integer("load.weight." + scenario, defaultWeight);
+    }
+
+    double thresholdMillis(String scenario, String percentile, double defaultMillis) {
+        String global = System.getProperty("load.threshold." + percentile);
+        String specific = System.getProperty("load.threshold." + scenario + "." + percentile);
+        if (specific != null) {
+            return Double.parseDouble(specific);
+        }
+        return global != null ? Double.parseDouble(global) : defaultMillis;
+    }
+
+    double maxErrorRate() {
+        return Double.parseDouble(string("load.threshold.error-rate", "0.0"));
+    }
+
+    private static String string(String name, String defaultValue) {
+        return System.getProperty(name, defaultValue);
+    }
+
+    private static int integer(String name, int defaultValue) {
+        return Integer.getInteger(name, defaultValue);
+    }
+
+    @Override
+    public String toString() {
+        return "LoadTestConfig{" +
+                "baseUrl='" + baseUrl + '\'' +
+                ", apiPath='" + apiPath + '\'' +
+                ", products=" + products +
+                ", rate=" + rate +
+                ", warmup=" + warmup.toSeconds() + "s" +
+                ", duration=" + duration.toSeconds() + "s" +
+                ", maxInFlight=" + maxInFlight +
+                '}';
+    }
+}
@@ -0,0 +1,51 @@
+package com.autoflex.inventory.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpRequest;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+final class Scenario {
+
+    private static final long HIGHEST_TRACKABLE = TimeUnit.MINUTES.toMicros(1);
+
+    final String name;
+    final int weight;
+    final Supplier<HttpRequest> request;
+    final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE, 3);
+    final LongAdder errors = new LongAdder();
+
+    Scenario(String name, int weight, Supplier<HttpRequest> request) {
+        this.name = name;
+        this.weight = weight;
+        this.request = request;
+    }
+
+    void record(long latencyMicros, boolean success) {
+        latency.recordValue(Math.min(Math.max(latencyMicros, 1), HIGHEST_TRACKABLE));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    void reset() {
+        latency.reset();
+        errors.reset();
+    }
+
+    long count() {
+        return latency.getTotalCount();
+    }
+
+    double errorRate() {
+        long count = count();
+        return count == 0 ? 0 : (double) errors.sum() / count;
+    }
+
+    double percentileMillis(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
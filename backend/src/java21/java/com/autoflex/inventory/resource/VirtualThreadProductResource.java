@@ -0,0 +1,15 @@
+package com.autoflex.inventory.resource;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.ws.rs.Path;
+
+/**
+ * Serves the product endpoints of {@link ProductResource} on virtual threads instead of the worker pool.
+ * Built only with the {@code java21} profile, which also replaces {@link ProductResource} at the same path.
+ */
+@Path("/api/products")
+@RunOnVirtualThread
+@IfBuildProperty(name = "inventory.virtual-threads.enabled", stringValue = "true")
+public class VirtualThreadProductResource extends ProductResource {
+}
@@ -0,0 +1,40 @@
+package com.autoflex.inventory.dto;
+
+import java.util.List;
+
+public class BulkOperationResponse {
+
+    private int affected;
+    private List<Long> ids;
+
+    public BulkOperationResponse() {}
+
+    public BulkOperationResponse(List<Long> ids) {
+        this.affected = ids.size();
+        this.ids = ids;
+    }
+
+    public int getAffected() {
+        return affected;
+    }
+
+    public void setAffected(int affected) {
+        this.affected = affected;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkOperationResponse{" +
+                "affected=" + affected +
+                ", ids=" + ids +
+                '}';
+    }
+}
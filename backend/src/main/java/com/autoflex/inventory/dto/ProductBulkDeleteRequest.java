@@ -0,0 +1,37 @@
+package com.autoflex.inventory.dto;
+
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public class ProductBulkDeleteRequest {
+
+    @Size(max = 10000, message = "At most 10000 product IDs can be deleted at once")
+    private List<Long> ids;
+
+    @Size(max = 10000, message = "At most 10000 product codes can be deleted at once")
+    private List<String> codes;
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<String> getCodes() {
+        return codes;
+    }
+
+    public void setCodes(List<String> codes) {
+        this.codes = codes;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductBulkDeleteRequest{" +
+                "ids=" + ids +
+                ", codes=" + codes +
+                '}';
+    }
+}
@@ -0,0 +1,91 @@
+package com.autoflex.inventory.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+import java.util.List;
+
+public class ProductBulkUpdateRequest {
+
+    public enum ChangeType {
+        SET,
+        AMOUNT,
+        PERCENTAGE
+    }
+
+    @Size(max = 10000, message = "At most 10000 product IDs can be updated at once")
+    private List<Long> ids;
+
+    @Size(max = 10000, message = "At most 10000 product codes can be updated at once")
+    private List<String> codes;
+
+    private BigDecimal minValue;
+
+    private BigDecimal maxValue;
+
+    @NotNull(message = "Change type is required")
+    private ChangeType changeType;
+
+    @NotNull(message = "Change amount is required")
+    private BigDecimal amount;
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<String> getCodes() {
+        return codes;
+    }
+
+    public void setCodes(List<String> codes) {
+        this.codes = codes;
+    }
+
+    public BigDecimal getMinValue() {
+        return minValue;
+    }
+
+    public void setMinValue(BigDecimal minValue) {
+        this.minValue = minValue;
+    }
+
+    public BigDecimal getMaxValue() {
+        return maxValue;
+    }
+
+    public void setMaxValue(BigDecimal maxValue) {
+        this.maxValue = maxValue;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public void setChangeType(ChangeType changeType) {
+        this.changeType = changeType;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductBulkUpdateRequest{" +
+                "ids=" + ids +
+                ", codes=" + codes +
+                ", minValue=" + minValue +
+                ", maxValue=" + maxValue +
+                ", changeType=" + changeType +
+                ", amount=" + amount +
+                '}';
+    }
+}
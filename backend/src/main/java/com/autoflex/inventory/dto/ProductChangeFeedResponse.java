@@ -0,0 +1,51 @@
+package com.autoflex.inventory.dto;
+
+import java.util.List;
+
+public class ProductChangeFeedResponse {
+
+    private List<ProductChangeResponse> items;
+    private String nextCursor;
+    private boolean hasMore;
+
+    public ProductChangeFeedResponse() {}
+
+    public ProductChangeFeedResponse(List<ProductChangeResponse> items, String nextCursor, boolean hasMore) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    public List<ProductChangeResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ProductChangeResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductChangeFeedResponse{" +
+                "items=" + (items == null ? 0 : items.size()) +
+                ", nextCursor='" + nextCursor + '\'' +
+                ", hasMore=" + hasMore +
+                '}';
+    }
+}
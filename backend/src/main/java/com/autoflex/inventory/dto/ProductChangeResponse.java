@@ -0,0 +1,95 @@
+package com.autoflex.inventory.dto;
+
+import com.autoflex.inventory.event.ProductChangedEvent;
+import java.time.LocalDateTime;
+
+public class ProductChangeResponse {
+
+    private String cursor;
+    private ProductChangedEvent.Type type;
+    private Long productId;
+    private String code;
+    private boolean deleted;
+    private LocalDateTime changedAt;
+    private ProductResponse product;
+
+    public ProductChangeResponse() {}
+
+    public ProductChangeResponse(String cursor, ProductChangedEvent.Type type, Long productId, String code,
+                                 boolean deleted, LocalDateTime changedAt, ProductResponse product) {
+        this.cursor = cursor;
+        this.type = type;
+        this.productId = productId;
+        this.code = code;
+        this.deleted = deleted;
+        this.changedAt = changedAt;
+        this.product = product;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public ProductChangedEvent.Type getType() {
+        return type;
+    }
+
+    public void setType(ProductChangedEvent.Type type) {
+        this.type = type;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(boolean deleted) {
+        this.deleted = deleted;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    public ProductResponse getProduct() {
+        return product;
+    }
+
+    public void setProduct(ProductResponse product) {
+        this.product = product;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductChangeResponse{" +
+                "cursor='" + cursor + '\'' +
+                ", type=" + type +
+                ", productId=" + productId +
+                ", code='" + code + '\'' +
+                ", deleted=" + deleted +
+                '}';
+    }
+}
@@ -0,0 +1,75 @@
+package com.autoflex.inventory.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProductImportResponse {
+
+    private int total;
+    private int imported;
+    private int failed;
+    private boolean complete = true;
+    private List<ProductImportRowResult> rows = new ArrayList<>();
+
+    public ProductImportResponse() {}
+
+    public void addRow(ProductImportRowResult row) {
+        rows.add(row);
+        total++;
+        if (row.isSuccess()) {
+            imported++;
+        } else {
+            failed++;
+        }
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public void setComplete(boolean complete) {
+        this.complete = complete;
+    }
+
+    public List<ProductImportRowResult> getRows() {
+        return rows;
+    }
+
+    public void setRows(List<ProductImportRowResult> rows) {
+        this.rows = rows;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductImportResponse{" +
+                "total=" + total +
+                ", imported=" + imported +
+                ", failed=" + failed +
+                ", complete=" + complete +
+                '}';
+    }
+}
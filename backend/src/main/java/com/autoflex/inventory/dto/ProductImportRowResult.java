@@ -0,0 +1,79 @@
+package com.autoflex.inventory.dto;
+
+public class ProductImportRowResult {
+
+    private int row;
+    private String code;
+    private Long id;
+    private boolean success;
+    private String message;
+
+    public ProductImportRowResult() {}
+
+    public ProductImportRowResult(int row, String code, Long id, boolean success, String message) {
+        this.row = row;
+        this.code = code;
+        this.id = id;
+        this.success = success;
+        this.message = message;
+    }
+
+    public static ProductImportRowResult imported(int row, String code, Long id) {
+        return new ProductImportRowResult(row, code, id, true, null);
+    }
+
+    public static ProductImportRowResult failed(int row, String code, String message) {
+        return new ProductImportRowResult(row, code, null, false, message);
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public void setRow(int row) {
+        this.row = row;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductImportRowResult{" +
+                "row=" + row +
+                ", code='" + code + '\'' +
+                ", id=" + id +
+                ", success=" + success +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,37 @@
+package com.autoflex.inventory.dto;
+
+import jakarta.validation.constraints.*;
+
+public class ProductMaterialRequest {
+
+    @NotNull(message = "Raw material ID is required")
+    private Long materialId;
+
+    @NotNull(message = "Required quantity is required")
+    @Min(value = 1, message = "Required quantity must be greater than 0")
+    private Integer requiredQuantity;
+
+    public Long getMaterialId() {
+        return materialId;
+    }
+
+    public void setMaterialId(Long materialId) {
+        this.materialId = materialId;
+    }
+
+    public Integer getRequiredQuantity() {
+        return requiredQuantity;
+    }
+
+    public void setRequiredQuantity(Integer requiredQuantity) {
+        this.requiredQuantity = requiredQuantity;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductMaterialRequest{" +
+                "materialId=" + materialId +
+                ", requiredQuantity=" + requiredQuantity +
+                '}';
+    }
+}
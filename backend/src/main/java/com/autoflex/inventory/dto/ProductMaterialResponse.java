@@ -0,0 +1,83 @@
+package com.autoflex.inventory.dto;
+
+public class ProductMaterialResponse {
+
+    private Long id;
+    private Long productId;
+    private Long materialId;
+    private String materialCode;
+    private String materialName;
+    private Integer requiredQuantity;
+
+    public ProductMaterialResponse() {}
+
+    public ProductMaterialResponse(Long id, Long productId, Long materialId,
+                                   String materialCode, String materialName, Integer requiredQuantity) {
+        this.id = id;
+        this.productId = productId;
+        this.materialId = materialId;
+        this.materialCode = materialCode;
+        this.materialName = materialName;
+        this.requiredQuantity = requiredQuantity;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Long getMaterialId() {
+        return materialId;
+    }
+
+    public void setMaterialId(Long materialId) {
+        this.materialId = materialId;
+    }
+
+    public String getMaterialCode() {
+        return materialCode;
+    }
+
+    public void setMaterialCode(String materialCode) {
+        this.materialCode = materialCode;
+    }
+
+    public String getMaterialName() {
+        return materialName;
+    }
+
+    public void setMaterialName(String materialName) {
+        this.materialName = materialName;
+    }
+
+    public Integer getRequiredQuantity() {
+        return requiredQuantity;
+    }
+
+    public void setRequiredQuantity(Integer requiredQuantity) {
+        this.requiredQuantity = requiredQuantity;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductMaterialResponse{" +
+                "id=" + id +
+                ", productId=" + productId +
+                ", materialId=" + materialId +
+                ", materialCode='" + materialCode + '\'' +
+                ", materialName='" + materialName + '\'' +
+                ", requiredQuantity=" + requiredQuantity +
+                '}';
+    }
+}
@@ -0,0 +1,44 @@
+package com.autoflex.inventory.dto;
+
+import java.util.List;
+
+public class ProductPage {
+
+    private List<ProductResponse> items;
+    private Long nextCursor;
+
+    public ProductPage() {}
+
+    public ProductPage(List<ProductResponse> items, Long nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<ProductResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ProductResponse> items) {
+        this.items = items;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductPage{" +
+                "items=" + (items == null ? 0 : items.size()) +
+                ", nextCursor=" + nextCursor +
+                '}';
+    }
+}
@@ -0,0 +1,77 @@
+package com.autoflex.inventory.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+
+/**
+ * A JSON Merge Patch of a product: absent fields are left unchanged. Every product field is required, so removing one
+ * with {@code null} is rejected.
+ */
+public class ProductPatchRequest {
+
+    @JsonSetter(nulls = Nulls.FAIL)
+    @Size(min = 3, max = 50, message = "Product code must be between 3 and 50 characters")
+    @Pattern(regexp = "(?s).*\\S.*", message = "Product code must not be blank")
+    private String code;
+
+    @JsonSetter(nulls = Nulls.FAIL)
+    @Size(min = 3, max = 100, message = "Product name must be between 3 and 100 characters")
+    @Pattern(regexp = "(?s).*\\S.*", message = "Product name must not be blank")
+    private String name;
+
+    @JsonSetter(nulls = Nulls.FAIL)
+    @DecimalMin(value = "0.0", inclusive = false, message = "Product value must be greater than 0")
+    private BigDecimal value;
+
+    public ProductPatchRequest() {
+    }
+
+    public ProductPatchRequest(String code, String name, BigDecimal value) {
+        this.code = code;
+        this.name = name;
+        this.value = value;
+    }
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return code == null && name == null && value == null;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public BigDecimal getValue() {
+        return value;
+    }
+
+    public void setValue(BigDecimal value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductPatchRequest{" +
+                "code='" + code + '\'' +
+                ", name='" + name + '\'' +
+                ", value=" + value +
+                '}';
+    }
+}
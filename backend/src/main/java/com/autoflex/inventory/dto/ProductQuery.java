@@ -0,0 +1,126 @@
+package com.autoflex.inventory.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class ProductQuery {
+
+    private BigDecimal minValue;
+    private BigDecimal maxValue;
+    private String name;
+    private String codePrefix;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+    private LocalDateTime updatedFrom;
+    private LocalDateTime updatedTo;
+    private String sort;
+    private String cursor;
+    private Integer limit;
+
+    public ProductQuery() {}
+
+    public BigDecimal getMinValue() {
+        return minValue;
+    }
+
+    public void setMinValue(BigDecimal minValue) {
+        this.minValue = minValue;
+    }
+
+    public BigDecimal getMaxValue() {
+        return maxValue;
+    }
+
+    public void setMaxValue(BigDecimal maxValue) {
+        this.maxValue = maxValue;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getCodePrefix() {
+        return codePrefix;
+    }
+
+    public void setCodePrefix(String codePrefix) {
+        this.codePrefix = codePrefix;
+    }
+
+    public LocalDateTime getCreatedFrom() {
+        return createdFrom;
+    }
+
+    public void setCreatedFrom(LocalDateTime createdFrom) {
+        this.createdFrom = createdFrom;
+    }
+
+    public LocalDateTime getCreatedTo() {
+        return createdTo;
+    }
+
+    public void setCreatedTo(LocalDateTime createdTo) {
+        this.createdTo = createdTo;
+    }
+
+    public LocalDateTime getUpdatedFrom() {
+        return updatedFrom;
+    }
+
+    public void setUpdatedFrom(LocalDateTime updatedFrom) {
+        this.updatedFrom = updatedFrom;
+    }
+
+    public LocalDateTime getUpdatedTo() {
+        return updatedTo;
+    }
+
+    public void setUpdatedTo(LocalDateTime updatedTo) {
+        this.updatedTo = updatedTo;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductQuery{" +
+                "minValue=" + minValue +
+                ", maxValue=" + maxValue +
+                ", name='" + name + '\'' +
+                ", codePrefix='" + codePrefix + '\'' +
+                ", createdFrom=" + createdFrom +
+                ", createdTo=" + createdTo +
+                ", updatedFrom=" + updatedFrom +
+                ", updatedTo=" + updatedTo +
+                ", sort='" + sort + '\'' +
+                ", cursor='" + cursor + '\'' +
+                ", limit=" + limit +
+                '}';
+    }
+}
@@ -0,0 +1,44 @@
+package com.autoflex.inventory.dto;
+
+import java.util.List;
+
+public class ProductQueryPage {
+
+    private List<?> items;
+    private String nextCursor;
+
+    public ProductQueryPage() {}
+
+    public ProductQueryPage(List<?> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<?> getItems() {
+        return items;
+    }
+
+    public void setItems(List<?> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductQueryPage{" +
+                "items=" + (items == null ? 0 : items.size()) +
+                ", nextCursor='" + nextCursor + '\'' +
+                '}';
+    }
+}
@@ -11,17 +11,19 @@ public class ProductResponse {
     private BigDecimal value;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     public ProductResponse() {}
 
     public ProductResponse(Long id, String code, String name, BigDecimal value, 
-                           LocalDateTime createdAt, LocalDateTime updatedAt) {
+                           LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
         this.id = id;
         this.code = code;
         this.name = name;
         this.value = value;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.version = version;
     }
 
     public Long getId() {
@@ -72,6 +74,14 @@ public class ProductResponse {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "ProductResponse{" +
@@ -81,6 +91,7 @@ public class ProductResponse {
                 ", value=" + value +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
+                ", version=" + version +
                 '}';
     }
 }
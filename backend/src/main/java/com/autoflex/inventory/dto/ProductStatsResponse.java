@@ -0,0 +1,74 @@
+package com.autoflex.inventory.dto;
+
+import java.math.BigDecimal;
+
+public class ProductStatsResponse {
+
+    private long count;
+    private BigDecimal totalValue;
+    private BigDecimal minValue;
+    private BigDecimal maxValue;
+    private BigDecimal averageValue;
+
+    public ProductStatsResponse() {}
+
+    public ProductStatsResponse(long count, BigDecimal totalValue, BigDecimal minValue,
+                                BigDecimal maxValue, BigDecimal averageValue) {
+        this.count = count;
+        this.totalValue = totalValue;
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.averageValue = averageValue;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public BigDecimal getTotalValue() {
+        return totalValue;
+    }
+
+    public void setTotalValue(BigDecimal totalValue) {
+        this.totalValue = totalValue;
+    }
+
+    public BigDecimal getMinValue() {
+        return minValue;
+    }
+
+    public void setMinValue(BigDecimal minValue) {
+        this.minValue = minValue;
+    }
+
+    public BigDecimal getMaxValue() {
+        return maxValue;
+    }
+
+    public void setMaxValue(BigDecimal maxValue) {
+        this.maxValue = maxValue;
+    }
+
+    public BigDecimal getAverageValue() {
+        return averageValue;
+    }
+
+    public void setAverageValue(BigDecimal averageValue) {
+        this.averageValue = averageValue;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductStatsResponse{" +
+                "count=" + count +
+                ", totalValue=" + totalValue +
+                ", minValue=" + minValue +
+                ", maxValue=" + maxValue +
+                ", averageValue=" + averageValue +
+                '}';
+    }
+}
@@ -0,0 +1,38 @@
+package com.autoflex.inventory.dto;
+
+public class ProductUpsertResult {
+
+    private ProductResponse product;
+    private boolean created;
+
+    public ProductUpsertResult() {}
+
+    public ProductUpsertResult(ProductResponse product, boolean created) {
+        this.product = product;
+        this.created = created;
+    }
+
+    public ProductResponse getProduct() {
+        return product;
+    }
+
+    public void setProduct(ProductResponse product) {
+        this.product = product;
+    }
+
+    public boolean isCreated() {
+        return created;
+    }
+
+    public void setCreated(boolean created) {
+        this.created = created;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductUpsertResult{" +
+                "product=" + product +
+                ", created=" + created +
+                '}';
+    }
+}
@@ -0,0 +1,74 @@
+package com.autoflex.inventory.dto;
+
+import java.math.BigDecimal;
+
+public class ProductionCapacityResponse {
+
+    private Long productId;
+    private String productCode;
+    private String productName;
+    private BigDecimal productValue;
+    private int maxProducible;
+
+    public ProductionCapacityResponse() {}
+
+    public ProductionCapacityResponse(Long productId, String productCode, String productName,
+                                      BigDecimal productValue, int maxProducible) {
+        this.productId = productId;
+        this.productCode = productCode;
+        this.productName = productName;
+        this.productValue = productValue;
+        this.maxProducible = maxProducible;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public String getProductCode() {
+        return productCode;
+    }
+
+    public void setProductCode(String productCode) {
+        this.productCode = productCode;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public void setProductName(String productName) {
+        this.productName = productName;
+    }
+
+    public BigDecimal getProductValue() {
+        return productValue;
+    }
+
+    public void setProductValue(BigDecimal productValue) {
+        this.productValue = productValue;
+    }
+
+    public int getMaxProducible() {
+        return maxProducible;
+    }
+
+    public void setMaxProducible(int maxProducible) {
+        this.maxProducible = maxProducible;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductionCapacityResponse{" +
+                "productId=" + productId +
+                ", productCode='" + productCode + '\'' +
+                ", productName='" + productName + '\'' +
+                ", productValue=" + productValue +
+                ", maxProducible=" + maxProducible +
+                '}';
+    }
+}
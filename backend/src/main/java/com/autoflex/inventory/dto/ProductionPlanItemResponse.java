@@ -0,0 +1,83 @@
+package com.autoflex.inventory.dto;
+
+import java.math.BigDecimal;
+
+public class ProductionPlanItemResponse {
+
+    private Long productId;
+    private String productCode;
+    private String productName;
+    private BigDecimal productValue;
+    private int quantity;
+    private BigDecimal subtotal;
+
+    public ProductionPlanItemResponse() {}
+
+    public ProductionPlanItemResponse(Long productId, String productCode, String productName,
+                                      BigDecimal productValue, int quantity, BigDecimal subtotal) {
+        this.productId = productId;
+        this.productCode = productCode;
+        this.productName = productName;
+        this.productValue = productValue;
+        this.quantity = quantity;
+        this.subtotal = subtotal;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public String getProductCode() {
+        return productCode;
+    }
+
+    public void setProductCode(String productCode) {
+        this.productCode = productCode;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public void setProductName(String productName) {
+        this.productName = productName;
+    }
+
+    public BigDecimal getProductValue() {
+        return productValue;
+    }
+
+    public void setProductValue(BigDecimal productValue) {
+        this.productValue = productValue;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getSubtotal() {
+        return subtotal;
+    }
+
+    public void setSubtotal(BigDecimal subtotal) {
+        this.subtotal = subtotal;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductionPlanItemResponse{" +
+                "productId=" + productId +
+                ", productCode='" + productCode + '\'' +
+                ", quantity=" + quantity +
+                ", subtotal=" + subtotal +
+                '}';
+    }
+}
@@ -0,0 +1,80 @@
+package com.autoflex.inventory.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class ProductionPlanResponse {
+
+    public enum Mode {
+        GREEDY,
+        EXACT
+    }
+
+    private Mode mode;
+    private boolean optimal;
+    private BigDecimal totalValue;
+    private long elapsedMillis;
+    private List<ProductionPlanItemResponse> items;
+
+    public ProductionPlanResponse() {}
+
+    public ProductionPlanResponse(Mode mode, boolean optimal, BigDecimal totalValue, long elapsedMillis,
+                                  List<ProductionPlanItemResponse> items) {
+        this.mode = mode;
+        this.optimal = optimal;
+        this.totalValue = totalValue;
+        this.elapsedMillis = elapsedMillis;
+        this.items = items;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public boolean isOptimal() {
+        return optimal;
+    }
+
+    public void setOptimal(boolean optimal) {
+        this.optimal = optimal;
+    }
+
+    public BigDecimal getTotalValue() {
+        return totalValue;
+    }
+
+    public void setTotalValue(BigDecimal totalValue) {
+        this.totalValue = totalValue;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public List<ProductionPlanItemResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ProductionPlanItemResponse> items) {
+        this.items = items;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductionPlanResponse{" +
+                "mode=" + mode +
+                ", optimal=" + optimal +
+                ", totalValue=" + totalValue +
+                ", elapsedMillis=" + elapsedMillis +
+                ", items=" + (items == null ? 0 : items.size()) +
+                '}';
+    }
+}
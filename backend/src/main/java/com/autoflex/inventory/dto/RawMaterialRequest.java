@@ -0,0 +1,51 @@
+package com.autoflex.inventory.dto;
+
+import jakarta.validation.constraints.*;
+
+public class RawMaterialRequest {
+
+    @NotBlank(message = "Raw material code is required")
+    @Size(min = 3, max = 50, message = "Raw material code must be between 3 and 50 characters")
+    private String code;
+
+    @NotBlank(message = "Raw material name is required")
+    @Size(min = 3, max = 100, message = "Raw material name must be between 3 and 100 characters")
+    private String name;
+
+    @NotNull(message = "Stock quantity is required")
+    @Min(value = 0, message = "Stock quantity must not be negative")
+    private Integer stockQuantity;
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getStockQuantity() {
+        return stockQuantity;
+    }
+
+    public void setStockQuantity(Integer stockQuantity) {
+        this.stockQuantity = stockQuantity;
+    }
+
+    @Override
+    public String toString() {
+        return "RawMaterialRequest{" +
+                "code='" + code + '\'' +
+                ", name='" + name + '\'' +
+                ", stockQuantity=" + stockQuantity +
+                '}';
+    }
+}
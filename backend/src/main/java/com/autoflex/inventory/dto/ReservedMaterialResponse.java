@@ -0,0 +1,38 @@
+package com.autoflex.inventory.dto;
+
+public class ReservedMaterialResponse {
+
+    private Long materialId;
+    private Integer quantity;
+
+    public ReservedMaterialResponse() {}
+
+    public ReservedMaterialResponse(Long materialId, Integer quantity) {
+        this.materialId = materialId;
+        this.quantity = quantity;
+    }
+
+    public Long getMaterialId() {
+        return materialId;
+    }
+
+    public void setMaterialId(Long materialId) {
+        this.materialId = materialId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    @Override
+    public String toString() {
+        return "ReservedMaterialResponse{" +
+                "materialId=" + materialId +
+                ", quantity=" + quantity +
+                '}';
+    }
+}
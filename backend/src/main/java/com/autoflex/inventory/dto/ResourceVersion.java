@@ -0,0 +1,40 @@
+package com.autoflex.inventory.dto;
+
+import java.time.LocalDateTime;
+
+public class ResourceVersion {
+
+    private String etag;
+    private LocalDateTime lastModified;
+
+    public ResourceVersion() {}
+
+    public ResourceVersion(String etag, LocalDateTime lastModified) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+
+    public LocalDateTime getLastModified() {
+        return lastModified;
+    }
+
+    public void setLastModified(LocalDateTime lastModified) {
+        this.lastModified = lastModified;
+    }
+
+    @Override
+    public String toString() {
+        return "ResourceVersion{" +
+                "etag='" + etag + '\'' +
+                ", lastModified=" + lastModified +
+                '}';
+    }
+}
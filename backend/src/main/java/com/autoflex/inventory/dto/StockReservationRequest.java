@@ -0,0 +1,44 @@
+package com.autoflex.inventory.dto;
+
+import jakarta.validation.constraints.*;
+
+public class StockReservationRequest {
+
+    @NotNull(message = "Product ID is required")
+    private Long productId;
+
+    @NotNull(message = "Quantity is required")
+    @Min(value = 1, message = "Quantity must be greater than 0")
+    private Integer quantity;
+
+    public StockReservationRequest() {}
+
+    public StockReservationRequest(Long productId, Integer quantity) {
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    @Override
+    public String toString() {
+        return "StockReservationRequest{" +
+                "productId=" + productId +
+                ", quantity=" + quantity +
+                '}';
+    }
+}
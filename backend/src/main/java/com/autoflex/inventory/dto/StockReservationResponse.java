@@ -0,0 +1,99 @@
+package com.autoflex.inventory.dto;
+
+import com.autoflex.inventory.entity.StockReservation;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class StockReservationResponse {
+
+    private Long id;
+    private Long productId;
+    private Integer quantity;
+    private StockReservation.Status status;
+    private List<ReservedMaterialResponse> materials;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public StockReservationResponse() {}
+
+    public StockReservationResponse(Long id, Long productId, Integer quantity, StockReservation.Status status,
+                                    List<ReservedMaterialResponse> materials, LocalDateTime createdAt,
+                                    LocalDateTime updatedAt) {
+        this.id = id;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.status = status;
+        this.materials = materials;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public StockReservation.Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(StockReservation.Status status) {
+        this.status = status;
+    }
+
+    public List<ReservedMaterialResponse> getMaterials() {
+        return materials;
+    }
+
+    public void setMaterials(List<ReservedMaterialResponse> materials) {
+        this.materials = materials;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "StockReservationResponse{" +
+                "id=" + id +
+                ", productId=" + productId +
+                ", quantity=" + quantity +
+                ", status=" + status +
+                ", materials=" + materials +
+                ", createdAt=" + createdAt +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+}
@@ -0,0 +1,25 @@
+package com.autoflex.inventory.dto;
+
+import jakarta.validation.constraints.*;
+
+public class StockUpdateRequest {
+
+    @NotNull(message = "Stock quantity is required")
+    @Min(value = 0, message = "Stock quantity must not be negative")
+    private Integer stockQuantity;
+
+    public Integer getStockQuantity() {
+        return stockQuantity;
+    }
+
+    public void setStockQuantity(Integer stockQuantity) {
+        this.stockQuantity = stockQuantity;
+    }
+
+    @Override
+    public String toString() {
+        return "StockUpdateRequest{" +
+                "stockQuantity=" + stockQuantity +
+                '}';
+    }
+}
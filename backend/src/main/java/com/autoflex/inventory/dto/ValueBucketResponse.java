@@ -0,0 +1,51 @@
+package com.autoflex.inventory.dto;
+
+import java.math.BigDecimal;
+
+public class ValueBucketResponse {
+
+    private BigDecimal lowerBound;
+    private BigDecimal upperBound;
+    private long count;
+
+    public ValueBucketResponse() {}
+
+    public ValueBucketResponse(BigDecimal lowerBound, BigDecimal upperBound, long count) {
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.count = count;
+    }
+
+    public BigDecimal getLowerBound() {
+        return lowerBound;
+    }
+
+    public void setLowerBound(BigDecimal lowerBound) {
+        this.lowerBound = lowerBound;
+    }
+
+    public BigDecimal getUpperBound() {
+        return upperBound;
+    }
+
+    public void setUpperBound(BigDecimal upperBound) {
+        this.upperBound = upperBound;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    @Override
+    public String toString() {
+        return "ValueBucketResponse{" +
+                "lowerBound=" + lowerBound +
+                ", upperBound=" + upperBound +
+                ", count=" + count +
+                '}';
+    }
+}
@@ -0,0 +1,40 @@
+package com.autoflex.inventory.dto;
+
+import java.math.BigDecimal;
+
+public class ValuePercentileResponse {
+
+    private double percentile;
+    private BigDecimal value;
+
+    public ValuePercentileResponse() {}
+
+    public ValuePercentileResponse(double percentile, BigDecimal value) {
+        this.percentile = percentile;
+        this.value = value;
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public void setPercentile(double percentile) {
+        this.percentile = percentile;
+    }
+
+    public BigDecimal getValue() {
+        return value;
+    }
+
+    public void setValue(BigDecimal value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return "ValuePercentileResponse{" +
+                "percentile=" + percentile +
+                ", value=" + value +
+                '}';
+    }
+}
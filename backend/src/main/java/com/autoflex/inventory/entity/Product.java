@@ -7,10 +7,13 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "product")
+@Table(name = "product", uniqueConstraints = @UniqueConstraint(name = Product.CODE_CONSTRAINT, columnNames = "code"))
 public class Product extends PanacheEntity {
 
-    @Column(name = "code", unique = true, nullable = false, length = 50)
+    // The name PostgreSQL gives the unique constraint in docker/postgres/init.sql.
+    public static final String CODE_CONSTRAINT = "product_code_key";
+
+    @Column(name = "code", nullable = false, length = 50)
     @NotBlank(message = "Product code is required")
     @Size(min = 3, max = 50, message = "Product code must be between 3 and 50 characters")
     public String code;
@@ -25,6 +28,10 @@ public class Product extends PanacheEntity {
     @DecimalMin(value = "0.0", inclusive = false, message = "Product value must be greater than 0")
     public BigDecimal value;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    public long version;
+
     @Column(name = "created_at")
     public LocalDateTime createdAt;
 
@@ -56,10 +63,6 @@ public class Product extends PanacheEntity {
         return find("code", code).firstResult();
     }
 
-    public static boolean existsByCode(String code) {
-        return count("code", code) > 0;
-    }
-
     @Override
     public String toString() {
         return "Product{" +
@@ -67,6 +70,7 @@ public class Product extends PanacheEntity {
                 ", code='" + code + '\'' +
                 ", name='" + name + '\'' +
                 ", value=" + value +
+                ", version=" + version +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.autoflex.inventory.entity;
+
+import com.autoflex.inventory.event.ProductChangedEvent;
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+    name = "product_change",
+    indexes = {
+        @Index(name = "idx_product_change_cursor", columnList = "txid, id"),
+        @Index(name = "idx_product_change_changed_at", columnList = "changed_at")
+    }
+)
+public class ProductChange extends PanacheEntity {
+
+    @Column(name = "product_id", nullable = false)
+    public Long productId;
+
+    @Column(name = "code", nullable = false, length = 50)
+    public String code;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 10)
+    public ProductChangedEvent.Type type;
+
+    // Id of the writing transaction; the change feed only serves rows whose transaction has finished.
+    @Column(name = "txid", insertable = false, updatable = false,
+        columnDefinition = "bigint default (pg_current_xact_id()::text::bigint) not null")
+    public Long txid;
+
+    @Column(name = "changed_at", nullable = false)
+    public LocalDateTime changedAt;
+
+    public ProductChange() {}
+
+    public ProductChange(Long productId, String code, ProductChangedEvent.Type type) {
+        this.productId = productId;
+        this.code = code;
+        this.type = type;
+        this.changedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public String toString() {
+        return "ProductChange{" +
+                "id=" + id +
+                ", productId=" + productId +
+                ", code='" + code + '\'' +
+                ", type=" + type +
+                ", txid=" + txid +
+                '}';
+    }
+}
@@ -0,0 +1,60 @@
+package com.autoflex.inventory.entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+    name = "product_material",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"product_id", "material_id"}),
+    indexes = {
+        @Index(name = "idx_product_material_product", columnList = "product_id"),
+        @Index(name = "idx_product_material_material", columnList = "material_id")
+    }
+)
+public class ProductMaterial extends PanacheEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "product_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    public Product product;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "material_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    public RawMaterial material;
+
+    @Column(name = "required_quantity", nullable = false)
+    @NotNull(message = "Required quantity is required")
+    @Min(value = 1, message = "Required quantity must be greater than 0")
+    public Integer requiredQuantity;
+
+    @Column(name = "created_at")
+    public LocalDateTime createdAt;
+
+    public ProductMaterial() {}
+
+    public ProductMaterial(Product product, RawMaterial material, Integer requiredQuantity) {
+        this.product = product;
+        this.material = material;
+        this.requiredQuantity = requiredQuantity;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    @Override
+    public String toString() {
+        return "ProductMaterial{" +
+                "id=" + id +
+                ", requiredQuantity=" + requiredQuantity +
+                '}';
+    }
+}
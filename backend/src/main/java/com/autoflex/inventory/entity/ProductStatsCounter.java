@@ -0,0 +1,40 @@
+package com.autoflex.inventory.entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+
+/**
+ * One slot of the running product count and total value. Writers add their deltas to a random slot so they do not
+ * all queue on the same row; the totals are the sum over the slots. The change count goes up by one for every
+ * transaction that writes products, so its sum versions the catalog.
+ */
+@Entity
+@Table(name = "product_stats_counter")
+public class ProductStatsCounter extends PanacheEntityBase {
+
+    @Id
+    @Column(name = "slot")
+    public Integer slot;
+
+    @Column(name = "product_count", nullable = false)
+    public long productCount;
+
+    @Column(name = "total_value", nullable = false, precision = 19, scale = 2)
+    public BigDecimal totalValue;
+
+    @Column(name = "change_count", nullable = false)
+    public long changeCount;
+
+    public ProductStatsCounter() {}
+
+    @Override
+    public String toString() {
+        return "ProductStatsCounter{" +
+                "slot=" + slot +
+                ", productCount=" + productCount +
+                ", totalValue=" + totalValue +
+                ", changeCount=" + changeCount +
+                '}';
+    }
+}
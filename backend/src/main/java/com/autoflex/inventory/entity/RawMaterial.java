@@ -0,0 +1,75 @@
+package com.autoflex.inventory.entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "raw_material")
+public class RawMaterial extends PanacheEntity {
+
+    @Column(name = "code", unique = true, nullable = false, length = 50)
+    @NotBlank(message = "Raw material code is required")
+    @Size(min = 3, max = 50, message = "Raw material code must be between 3 and 50 characters")
+    public String code;
+
+    @Column(name = "name", nullable = false, length = 100)
+    @NotBlank(message = "Raw material name is required")
+    @Size(min = 3, max = 100, message = "Raw material name must be between 3 and 100 characters")
+    public String name;
+
+    @Column(name = "stock_quantity", nullable = false)
+    @NotNull(message = "Stock quantity is required")
+    @Min(value = 0, message = "Stock quantity must not be negative")
+    public Integer stockQuantity;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    public long version;
+
+    @Column(name = "created_at")
+    public LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    public LocalDateTime updatedAt;
+
+    public RawMaterial() {}
+
+    public RawMaterial(String code, String name, Integer stockQuantity) {
+        this.code = code;
+        this.name = name;
+        this.stockQuantity = stockQuantity;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public static RawMaterial findByCode(String code) {
+        return find("code", code).firstResult();
+    }
+
+    public static boolean existsByCode(String code) {
+        return count("code", code) > 0;
+    }
+
+    @Override
+    public String toString() {
+        return "RawMaterial{" +
+                "id=" + id +
+                ", code='" + code + '\'' +
+                ", name='" + name + '\'' +
+                ", stockQuantity=" + stockQuantity +
+                '}';
+    }
+}
@@ -0,0 +1,29 @@
+package com.autoflex.inventory.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+@Embeddable
+public class ReservedMaterial {
+
+    @Column(name = "material_id", nullable = false)
+    public Long materialId;
+
+    @Column(name = "quantity", nullable = false)
+    public Integer quantity;
+
+    public ReservedMaterial() {}
+
+    public ReservedMaterial(Long materialId, Integer quantity) {
+        this.materialId = materialId;
+        this.quantity = quantity;
+    }
+
+    @Override
+    public String toString() {
+        return "ReservedMaterial{" +
+                "materialId=" + materialId +
+                ", quantity=" + quantity +
+                '}';
+    }
+}
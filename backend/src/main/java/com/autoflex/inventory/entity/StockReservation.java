@@ -0,0 +1,70 @@
+package com.autoflex.inventory.entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(name = "stock_reservation")
+public class StockReservation extends PanacheEntity {
+
+    public enum Status {
+        RESERVED,
+        CONSUMED,
+        RELEASED
+    }
+
+    @Column(name = "product_id", nullable = false)
+    public Long productId;
+
+    @Column(name = "quantity", nullable = false)
+    public Integer quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    public Status status;
+
+    // Stock taken per material, so a release returns exactly that even if the bill of materials changed since.
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "stock_reservation_material", joinColumns = @JoinColumn(name = "reservation_id"))
+    @OrderBy("materialId")
+    public List<ReservedMaterial> materials = new ArrayList<>();
+
+    @Column(name = "created_at")
+    public LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    public LocalDateTime updatedAt;
+
+    public StockReservation() {}
+
+    public StockReservation(Long productId, Integer quantity, Status status) {
+        this.productId = productId;
+        this.quantity = quantity;
+        this.status = status;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public String toString() {
+        return "StockReservation{" +
+                "id=" + id +
+                ", productId=" + productId +
+                ", quantity=" + quantity +
+                ", status=" + status +
+                ", materials=" + materials +
+                '}';
+    }
+}
@@ -0,0 +1,21 @@
+package com.autoflex.inventory.event;
+
+public class BillOfMaterialsChangedEvent {
+
+    private final Long productId;
+
+    public BillOfMaterialsChangedEvent(Long productId) {
+        this.productId = productId;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    @Override
+    public String toString() {
+        return "BillOfMaterialsChangedEvent{" +
+                "productId=" + productId +
+                '}';
+    }
+}
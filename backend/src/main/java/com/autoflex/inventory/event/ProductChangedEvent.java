@@ -0,0 +1,78 @@
+package com.autoflex.inventory.event;
+
+import java.math.BigDecimal;
+
+public class ProductChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long productId;
+    private final String previousCode;
+    private final String code;
+    private final BigDecimal previousValue;
+    private final BigDecimal value;
+
+    public ProductChangedEvent(Type type, Long productId, String previousCode, String code,
+                               BigDecimal previousValue, BigDecimal value) {
+        this.type = type;
+        this.productId = productId;
+        this.previousCode = previousCode;
+        this.code = code;
+        this.previousValue = previousValue;
+        this.value = value;
+    }
+
+    public static ProductChangedEvent created(Long productId, String code, BigDecimal value) {
+        return new ProductChangedEvent(Type.CREATED, productId, null, code, null, value);
+    }
+
+    public static ProductChangedEvent updated(Long productId, String previousCode, String code,
+                                              BigDecimal previousValue, BigDecimal value) {
+        return new ProductChangedEvent(Type.UPDATED, productId, previousCode, code, previousValue, value);
+    }
+
+    public static ProductChangedEvent deleted(Long productId, String code, BigDecimal value) {
+        return new ProductChangedEvent(Type.DELETED, productId, code, null, value, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public String getPreviousCode() {
+        return previousCode;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public BigDecimal getPreviousValue() {
+        return previousValue;
+    }
+
+    public BigDecimal getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductChangedEvent{" +
+                "type=" + type +
+                ", productId=" + productId +
+                ", previousCode='" + previousCode + '\'' +
+                ", code='" + code + '\'' +
+                ", previousValue=" + previousValue +
+                ", value=" + value +
+                '}';
+    }
+}
@@ -0,0 +1,35 @@
+package com.autoflex.inventory.event;
+
+public class StockChangedEvent {
+
+    private final Long materialId;
+    private final int stockQuantity;
+    private final long version;
+
+    public StockChangedEvent(Long materialId, int stockQuantity, long version) {
+        this.materialId = materialId;
+        this.stockQuantity = stockQuantity;
+        this.version = version;
+    }
+
+    public Long getMaterialId() {
+        return materialId;
+    }
+
+    public int getStockQuantity() {
+        return stockQuantity;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public String toString() {
+        return "StockChangedEvent{" +
+                "materialId=" + materialId +
+                ", stockQuantity=" + stockQuantity +
+                ", version=" + version +
+                '}';
+    }
+}
@@ -0,0 +1,12 @@
+package com.autoflex.inventory.exception;
+
+public class ChangeCursorExpiredException extends RuntimeException {
+    
+    public ChangeCursorExpiredException(String message) {
+        super(message);
+    }
+    
+    public ChangeCursorExpiredException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,17 +1,46 @@
 package com.autoflex.inventory.exception;
 
+import com.autoflex.inventory.entity.Product;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Inject;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.ExceptionMapper;
 import jakarta.ws.rs.ext.Provider;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.ConstraintViolationException.ConstraintKind;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Provider
 public class GlobalExceptionHandler implements ExceptionMapper<Exception> {
 
+    private static final Map<String, String> UNIQUE_CONSTRAINT_MESSAGES = Map.of(
+            Product.CODE_CONSTRAINT, "Product code already exists");
+
+    // PostgreSQL names the duplicate in the detail, e.g. "Key (code)=(P001) already exists."
+    private static final Pattern DUPLICATE_KEY = Pattern.compile("Key \\(.*?\\)=\\((.*)\\) already exists");
+
+    private final MeterRegistry meterRegistry;
+
+    @Inject
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @Override
     public Response toResponse(Exception exception) {
+        Response response = buildResponse(exception);
+        meterRegistry.counter("inventory.exceptions",
+                "exception", exception.getClass().getSimpleName(),
+                "status", String.valueOf(response.getStatus()))
+            .increment();
+        return response;
+    }
+
+    private Response buildResponse(Exception exception) {
         Map<String, Object> errorResponse = new HashMap<>();
         errorResponse.put("timestamp", LocalDateTime.now());
         errorResponse.put("success", false);
@@ -30,6 +59,34 @@ public class GlobalExceptionHandler implements ExceptionMapper<Exception> {
                     .entity(errorResponse)
                     .build();
         }
+        else if (uniqueViolation(exception) != null) {
+            errorResponse.put("message", uniqueViolationMessage(uniqueViolation(exception)));
+            errorResponse.put("error", "Bad Request");
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(errorResponse)
+                    .build();
+        }
+        else if (exception instanceof PreconditionFailedException) {
+            errorResponse.put("message", exception.getMessage());
+            errorResponse.put("error", "Precondition Failed");
+            return Response.status(Response.Status.PRECONDITION_FAILED)
+                    .entity(errorResponse)
+                    .build();
+        }
+        else if (exception instanceof ChangeCursorExpiredException) {
+            errorResponse.put("message", exception.getMessage());
+            errorResponse.put("error", "Gone");
+            return Response.status(Response.Status.GONE)
+                    .entity(errorResponse)
+                    .build();
+        }
+        else if (exception instanceof jakarta.persistence.OptimisticLockException) {
+            errorResponse.put("message", "The resource was changed by another request, please retry");
+            errorResponse.put("error", "Conflict");
+            return Response.status(Response.Status.CONFLICT)
+                    .entity(errorResponse)
+                    .build();
+        }
         else if (exception instanceof jakarta.validation.ConstraintViolationException) {
             errorResponse.put("message", "Validation failed");
             errorResponse.put("error", "Validation Error");
@@ -46,4 +103,22 @@ public class GlobalExceptionHandler implements ExceptionMapper<Exception> {
                 .entity(errorResponse)
                 .build();
     }
+
+    // The violation can arrive wrapped, e.g. in the rollback exception of a transaction that failed to commit.
+    private static ConstraintViolationException uniqueViolation(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException
+                    && ((ConstraintViolationException) cause).getKind() == ConstraintKind.UNIQUE) {
+                return (ConstraintViolationException) cause;
+            }
+        }
+        return null;
+    }
+
+    private static String uniqueViolationMessage(ConstraintViolationException violation) {
+        String message = UNIQUE_CONSTRAINT_MESSAGES.getOrDefault(violation.getConstraintName(),
+                "Value already exists");
+        Matcher key = DUPLICATE_KEY.matcher(String.valueOf(violation.getSQLException().getMessage()));
+        return key.find() ? message + ": " + key.group(1) : message;
+    }
 }
@@ -0,0 +1,98 @@
+package com.autoflex.inventory.repository;
+
+import com.autoflex.inventory.entity.ProductChange;
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@ApplicationScoped
+public class ProductChangeRepository implements PanacheRepository<ProductChange> {
+
+    // Transactions below the snapshot's xmin have all finished, so no change with a smaller cursor can appear later.
+    private static final String COMPLETED = "txid < pg_snapshot_xmin(pg_current_snapshot())::text::bigint";
+
+    @SuppressWarnings("unchecked")
+    public List<ProductChange> findCompletedAfter(long txid, long id, int limit) {
+        return getEntityManager()
+            .createNativeQuery(
+                "select * from product_change where (txid, id) > (?1, ?2) and " + COMPLETED +
+                " order by txid, id limit ?3", ProductChange.class)
+            .setParameter(1, txid)
+            .setParameter(2, id)
+            .setParameter(3, limit)
+            .getResultList();
+    }
+
+    /**
+     * Inserts the changes with one statement, in list order. IDs come from {@code product_change_seq} like the
+     * entity's, each {@code nextval} owning its own block, so they do not collide with IDs Hibernate hands out.
+     */
+    public void insertAll(List<ProductChange> changes) {
+        int size = changes.size();
+        Long[] productIds = new Long[size];
+        String[] codes = new String[size];
+        String[] types = new String[size];
+        LocalDateTime[] changedAt = new LocalDateTime[size];
+        for (int i = 0; i < size; i++) {
+            ProductChange change = changes.get(i);
+            productIds[i] = change.productId;
+            codes[i] = change.code;
+            types[i] = change.type.name();
+            changedAt[i] = change.changedAt;
+        }
+        getEntityManager()
+            .createNativeQuery(
+                "insert into product_change (id, product_id, code, change_type, changed_at) " +
+                "select nextval('product_change_seq'), c.product_id, c.code, c.change_type, c.changed_at " +
+                "from unnest(cast(?1 as bigint[]), cast(?2 as varchar[]), cast(?3 as varchar[]), " +
+                "cast(?4 as timestamp[])) with ordinality as c(product_id, code, change_type, changed_at, n) " +
+                "order by c.n")
+            .setParameter(1, productIds)
+            .setParameter(2, codes)
+            .setParameter(3, types)
+            .setParameter(4, changedAt)
+            .executeUpdate();
+    }
+
+    public boolean existsById(long id) {
+        return count("id", id) > 0;
+    }
+
+    /**
+     * Returns the cursor of the latest finished change recorded before the given time, or null if there is none.
+     * Everything up to it can be pruned without opening a gap ahead of any cursor still in the table.
+     */
+    @SuppressWarnings("unchecked")
+    public Object[] findLastCompletedBefore(LocalDateTime time) {
+        List<Object[]> result = getEntityManager()
+            .createNativeQuery(
+                "select txid, id from product_change where changed_at < ?1 and " + COMPLETED +
+                " order by txid desc, id desc limit 1")
+            .setParameter(1, time)
+            .getResultList();
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    // Deletes in cursor order, so a cursor whose row is still present never has a deleted change after it.
+    public int deleteUpTo(long txid, long id, int limit) {
+        return getEntityManager()
+            .createNativeQuery(
+                "delete from product_change where id in (select id from product_change " +
+                "where (txid, id) <= (?1, ?2) order by txid, id limit ?3)")
+            .setParameter(1, txid)
+            .setParameter(2, id)
+            .setParameter(3, limit)
+            .executeUpdate();
+    }
+
+    @SuppressWarnings("unchecked")
+    public Object[] findLastCompleted() {
+        List<Object[]> result = getEntityManager()
+            .createNativeQuery(
+                "select txid, id from product_change where " + COMPLETED + " order by txid desc, id desc limit 1")
+            .getResultList();
+        return result.isEmpty() ? null : result.get(0);
+    }
+}
@@ -0,0 +1,41 @@
+package com.autoflex.inventory.repository;
+
+import com.autoflex.inventory.entity.ProductMaterial;
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.List;
+
+@ApplicationScoped
+public class ProductMaterialRepository implements PanacheRepository<ProductMaterial> {
+
+    public List<ProductMaterial> findByProductId(Long productId) {
+        return find("from ProductMaterial pm join fetch pm.material where pm.product.id = ?1 order by pm.material.code",
+            productId).list();
+    }
+
+    public ProductMaterial findByProductIdAndMaterialId(Long productId, Long materialId) {
+        return find("product.id = ?1 and material.id = ?2", productId, materialId).firstResult();
+    }
+
+    public List<Object[]> findRequirements(Long productId) {
+        return getEntityManager()
+            .createQuery("select pm.material.id, pm.material.code, pm.requiredQuantity from ProductMaterial pm " +
+                "where pm.product.id = ?1 order by pm.material.id", Object[].class)
+            .setParameter(1, productId)
+            .getResultList();
+    }
+
+    public List<Object[]> findAllLinks() {
+        return getEntityManager()
+            .createQuery("select pm.product.id, pm.material.id, pm.requiredQuantity from ProductMaterial pm " +
+                "order by pm.product.id, pm.material.id", Object[].class)
+            .getResultList();
+    }
+
+    public List<Object[]> findProductsWithMaterials() {
+        return getEntityManager()
+            .createQuery("select p.id, p.code, p.name, p.value from Product p " +
+                "where exists (select 1 from ProductMaterial pm where pm.product = p) order by p.id", Object[].class)
+            .getResultList();
+    }
+}
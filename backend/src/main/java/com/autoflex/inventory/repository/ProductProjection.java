@@ -0,0 +1,108 @@
+package com.autoflex.inventory.repository;
+
+import com.autoflex.inventory.dto.ProductResponse;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Selection of a product read query, mapping rows straight to the response shape instead of hydrating
+ * managed {@code Product} entities. Queries select from {@code Product p}.
+ */
+public final class ProductProjection<T> {
+
+    private static final Map<String, String> FIELDS = new LinkedHashMap<>();
+
+    static {
+        FIELDS.put("id", "p.id");
+        FIELDS.put("code", "p.code");
+        FIELDS.put("name", "p.name");
+        FIELDS.put("value", "p.value");
+        FIELDS.put("createdAt", "p.createdAt");
+        FIELDS.put("updatedAt", "p.updatedAt");
+        FIELDS.put("version", "p.version");
+    }
+
+    public static final ProductProjection<ProductResponse> RESPONSE = new ProductProjection<>(
+        "new com.autoflex.inventory.dto.ProductResponse(p.id, p.code, p.name, p.value, p.createdAt, p.updatedAt, " +
+            "p.version)",
+        ProductResponse.class,
+        Function.identity(),
+        "p.id, p.code, p.name, p.value, p.createdAt, p.updatedAt, p.version",
+        (row, offset) -> new ProductResponse((Long) row[offset], (String) row[offset + 1], (String) row[offset + 2],
+            (BigDecimal) row[offset + 3], (LocalDateTime) row[offset + 4], (LocalDateTime) row[offset + 5],
+            (Long) row[offset + 6]));
+
+    final String selection;
+    final Class<?> rowType;
+    private final Function<Object, T> mapper;
+    final String columns;
+    private final BiFunction<Object[], Integer, T> tupleMapper;
+
+    @SuppressWarnings("unchecked")
+    private <R> ProductProjection(String selection, Class<R> rowType, Function<R, T> mapper,
+                                  String columns, BiFunction<Object[], Integer, T> tupleMapper) {
+        this.selection = selection;
+        this.rowType = rowType;
+        this.mapper = row -> mapper.apply((R) row);
+        this.columns = columns;
+        this.tupleMapper = tupleMapper;
+    }
+
+    /**
+     * Selects only the named fields, given as a comma separated list such as {@code code,name}, and returns
+     * each row as a map from field name to value in the requested order.
+     */
+    public static ProductProjection<Map<String, Object>> fields(String fields) {
+        List<String> names = new ArrayList<>();
+        List<String> columns = new ArrayList<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty() || names.contains(name)) {
+                continue;
+            }
+            String column = FIELDS.get(name);
+            if (column == null) {
+                throw new IllegalArgumentException("Unknown product field: " + name + ", expected one of "
+                    + String.join(", ", FIELDS.keySet()));
+            }
+            names.add(name);
+            columns.add(column);
+        }
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("At least one product field is required");
+        }
+
+        BiFunction<Object[], Integer, Map<String, Object>> tupleMapper = (row, offset) -> {
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                values.put(names.get(i), row[offset + i]);
+            }
+            return values;
+        };
+        String selection = String.join(", ", columns);
+        return new ProductProjection<>(selection, Object[].class, row -> tupleMapper.apply(row, 0),
+            selection, tupleMapper);
+    }
+
+    /**
+     * Maps a row that selected {@link #columns} starting at {@code offset}, after columns of the caller's own.
+     */
+    T fromTuple(Object[] row, int offset) {
+        return tupleMapper.apply(row, offset);
+    }
+
+    List<T> map(List<?> rows) {
+        List<T> result = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            result.add(mapper.apply(row));
+        }
+        return result;
+    }
+}
@@ -1,27 +1,432 @@
 package com.autoflex.inventory.repository;
 
+import com.autoflex.inventory.dto.ProductBulkUpdateRequest.ChangeType;
+import com.autoflex.inventory.dto.ProductQuery;
+import com.autoflex.inventory.dto.ProductQueryPage;
+import com.autoflex.inventory.dto.ProductResponse;
 import com.autoflex.inventory.entity.Product;
+import io.micrometer.core.annotation.Timed;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+
 import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @ApplicationScoped
+@Timed("inventory.repository")
 public class ProductRepository implements PanacheRepository<Product> {
 
-    public List<Product> findByValueRange(BigDecimal minValue, BigDecimal maxValue) {
-        return find("value between ?1 and ?2", minValue, maxValue).list();
+    // Queries the benchmarks module also runs, on H2, through select(EntityManager, ...).
+    public static final String BY_ID = "where p.id = ?1";
+    public static final String PAGE_AFTER = "where p.id > ?1 order by p.id";
+    public static final String VALUE_RANGE = "where p.value between ?1 and ?2";
+    public static final String ORDER_BY_VALUE_DESC = "order by p.value desc";
+    public static final String AGGREGATE_VALUES =
+        "select count(p), coalesce(sum(p.value), 0), min(p.value), max(p.value) from Product p";
+    public static final String EXISTING_CODES = "select p.code from Product p where p.code in :codes";
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    public <T> List<T> findByValueRange(ProductProjection<T> projection, BigDecimal minValue, BigDecimal maxValue) {
+        return select(projection, VALUE_RANGE, 0, minValue, maxValue);
+    }
+
+    public <T> List<T> findAllOrderByValueDesc(ProductProjection<T> projection) {
+        return select(projection, ORDER_BY_VALUE_DESC, 0);
+    }
+
+    public <T> List<T> searchByName(ProductProjection<T> projection, String term, int limit) {
+        String normalized = term.toLowerCase();
+        return select(projection,
+            "where lower(p.name) like ?1 order by function('similarity', lower(p.name), ?2) desc, p.name, p.id",
+            limit, "%" + escapeLike(normalized) + "%", normalized);
+    }
+
+    public <T> List<T> findByNamePrefix(ProductProjection<T> projection, String prefix, int limit) {
+        return select(projection, "where lower(p.name) like ?1 order by lower(p.name), p.id", limit,
+            escapeLike(prefix.toLowerCase()) + "%");
+    }
+
+    public <T> List<T> findPageAfter(ProductProjection<T> projection, long afterId, int limit) {
+        return select(projection, PAGE_AFTER, limit, afterId);
+    }
+
+    public ProductResponse findResponseById(Long id) {
+        List<ProductResponse> result = select(ProductProjection.RESPONSE, BY_ID, 1, id);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    public ProductResponse findResponseByCode(String code) {
+        List<ProductResponse> result = select(ProductProjection.RESPONSE, "where p.code = ?1", 1, code);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    /**
+     * Runs a filtered, sorted query as one statement. Rows select the sort keys ahead of the projection, so the
+     * next page resumes after the last row's keys instead of an offset.
+     */
+    public <T> ProductQueryPage query(ProductProjection<T> projection, ProductQuery filter, ProductSort sort,
+                                      int limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        List<String> conditions = new ArrayList<>();
+        if (filter.getMinValue() != null) {
+            conditions.add("p.value >= :minValue");
+            parameters.put("minValue", filter.getMinValue());
+        }
+        if (filter.getMaxValue() != null) {
+            conditions.add("p.value <= :maxValue");
+            parameters.put("maxValue", filter.getMaxValue());
+        }
+        if (filter.getName() != null && !filter.getName().isBlank()) {
+            conditions.add("lower(p.name) like :name");
+            parameters.put("name", "%" + escapeLike(filter.getName().trim().toLowerCase()) + "%");
+        }
+        if (filter.getCodePrefix() != null && !filter.getCodePrefix().isBlank()) {
+            conditions.add("p.code like :codePrefix");
+            parameters.put("codePrefix", escapeLike(filter.getCodePrefix().trim()) + "%");
+        }
+        addRange(conditions, parameters, "p.createdAt", "created", filter.getCreatedFrom(), filter.getCreatedTo());
+        addRange(conditions, parameters, "p.updatedAt", "updated", filter.getUpdatedFrom(), filter.getUpdatedTo());
+
+        if (filter.getCursor() != null && !filter.getCursor().isBlank()) {
+            Object[] after = sort.parseCursor(filter.getCursor());
+            List<String> keys = new ArrayList<>();
+            for (int i = 0; i < after.length; i++) {
+                keys.add(":k" + i);
+                if (after[i] != null) {
+                    parameters.put("k" + i, after[i]);
+                }
+            }
+            if (sort.isRowComparable()) {
+                // A row comparison can be answered by a single range scan of a matching composite index.
+                conditions.add("(" + sort.keyColumns() + ")" + (sort.orders.get(0).descending ? " < " : " > ")
+                    + "(" + String.join(", ", keys) + ")");
+            } else {
+                // Nulls sort last: a null key is only followed by more nulls, a non-null one also by every null.
+                List<String> alternatives = new ArrayList<>();
+                for (int i = 0; i < sort.orders.size(); i++) {
+                    ProductSort.Order order = sort.orders.get(i);
+                    if (after[i] == null) {
+                        continue;
+                    }
+                    List<String> terms = new ArrayList<>();
+                    for (int j = 0; j < i; j++) {
+                        String column = sort.orders.get(j).key.column;
+                        terms.add(after[j] == null ? column + " is null" : column + " = " + keys.get(j));
+                    }
+                    String next = order.key.column + (order.descending ? " < " : " > ") + keys.get(i);
+                    terms.add(order.key.nullable ? "(" + next + " or " + order.key.column + " is null)" : next);
+                    alternatives.add("(" + String.join(" and ", terms) + ")");
+                }
+                conditions.add("(" + String.join(" or ", alternatives) + ")");
+            }
+        }
+
+        String where = conditions.isEmpty() ? "" : "where " + String.join(" and ", conditions) + " ";
+        Query query = getEntityManager().createQuery(
+            "select " + sort.keyColumns() + ", " + projection.columns + " from Product p " + where + sort.orderBy(),
+            Object[].class);
+        parameters.forEach(query::setParameter);
+        query.setMaxResults(limit + 1);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        int keyCount = sort.orders.size();
+        int size = Math.min(rows.size(), limit);
+        List<T> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(projection.fromTuple(rows.get(i), keyCount));
+        }
+
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            nextCursor = sort.cursor(Arrays.copyOf(rows.get(limit - 1), keyCount));
+        }
+        return new ProductQueryPage(items, nextCursor);
+    }
+
+    private static void addRange(List<String> conditions, Map<String, Object> parameters, String column,
+                                 String name, LocalDateTime from, LocalDateTime to) {
+        if (from != null) {
+            conditions.add(column + " >= :" + name + "From");
+            parameters.put(name + "From", from);
+        }
+        if (to != null) {
+            conditions.add(column + " < :" + name + "To");
+            parameters.put(name + "To", to);
+        }
+    }
+
+    private <T> List<T> select(ProductProjection<T> projection, String clause, int limit, Object... parameters) {
+        return select(getEntityManager(), projection, clause, limit, parameters);
+    }
+
+    public static <T> List<T> select(EntityManager entityManager, ProductProjection<T> projection, String clause,
+                                     int limit, Object... parameters) {
+        Query query = entityManager
+            .createQuery("select " + projection.selection + " from Product p " + clause, projection.rowType);
+        for (int i = 0; i < parameters.length; i++) {
+            query.setParameter(i + 1, parameters[i]);
+        }
+        if (limit > 0) {
+            query.setMaxResults(limit);
+        }
+        return projection.map(query.getResultList());
+    }
+
+    public Object[] aggregateValues() {
+        return getEntityManager()
+            .createQuery(AGGREGATE_VALUES, Object[].class)
+            .getSingleResult();
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Object[]> countByValueBucket(BigDecimal lowerBound, BigDecimal upperBound, int buckets) {
+        return getEntityManager()
+            .createNativeQuery(
+                "select least(width_bucket(value, ?1, ?2, ?3), ?3) as bucket, count(*) " +
+                "from product group by bucket order by bucket")
+            .setParameter(1, lowerBound)
+            .setParameter(2, upperBound)
+            .setParameter(3, buckets)
+            .getResultList();
+    }
+
+    public BigDecimal[] findValuePercentiles(List<Double> fractions) {
+        StringBuilder sql = new StringBuilder("select ");
+        for (int i = 1; i <= fractions.size(); i++) {
+            if (i > 1) {
+                sql.append(", ");
+            }
+            sql.append("percentile_disc(cast(?").append(i).append(" as double precision)) within group (order by value)");
+        }
+        sql.append(" from product");
+
+        Query query = getEntityManager().createNativeQuery(sql.toString());
+        for (int i = 0; i < fractions.size(); i++) {
+            query.setParameter(i + 1, fractions.get(i));
+        }
+
+        Object result = query.getSingleResult();
+        Object[] row = result instanceof Object[] ? (Object[]) result : new Object[] { result };
+        BigDecimal[] values = new BigDecimal[row.length];
+        for (int i = 0; i < row.length; i++) {
+            values[i] = (BigDecimal) row[i];
+        }
+        return values;
+    }
+
+    public Set<String> findExistingCodes(Collection<String> codes) {
+        return new HashSet<>(getEntityManager()
+            .createQuery(EXISTING_CODES, String.class)
+            .setParameter("codes", codes)
+            .getResultList());
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Object[]> updateValues(List<Long> ids, List<String> codes, BigDecimal minValue, BigDecimal maxValue,
+                                       ChangeType changeType, BigDecimal amount, LocalDateTime updatedAt) {
+        Map<String, Object> parameters = new HashMap<>();
+        String filter = bulkFilter(ids, codes, minValue, maxValue, parameters);
+        String newValue;
+        switch (changeType) {
+            case SET:
+                newValue = ":amount";
+                break;
+            case AMOUNT:
+                newValue = "t.value + :amount";
+                break;
+            default:
+                newValue = "round(t.value * (1 + :amount / 100), 2)";
+                break;
+        }
+        parameters.put("amount", amount);
+        parameters.put("updatedAt", updatedAt);
+
+        Query query = getEntityManager().createNativeQuery(
+            "with t as (select id, value from product where " + filter + " for update) " +
+            "update product p set value = " + newValue + ", updated_at = :updatedAt, version = p.version + 1 " +
+            "from t where p.id = t.id " +
+            "returning p.id, p.code, t.value as previous_value, p.value");
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    /**
+     * Sets the given non-null columns of one product in a single statement. Returns the product as
+     * {@link ProductResponse} followed by its previous code and value, or null if there is no product with the ID,
+     * or none at {@code expectedVersion} when one is given.
+     */
+    @SuppressWarnings("unchecked")
+    public Object[] patch(Long id, String code, String name, BigDecimal value, Long expectedVersion,
+                          LocalDateTime updatedAt) {
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder set = new StringBuilder();
+        if (code != null) {
+            set.append("code = :code, ");
+            parameters.put("code", code);
+        }
+        if (name != null) {
+            set.append("name = :name, ");
+            parameters.put("name", name);
+        }
+        if (value != null) {
+            set.append("value = :value, ");
+            parameters.put("value", value);
+        }
+        parameters.put("id", id);
+        parameters.put("updatedAt", updatedAt);
+        String filter = "id = :id";
+        if (expectedVersion != null) {
+            filter += " and version = :version";
+            parameters.put("version", expectedVersion);
+        }
+
+        Query query = getEntityManager().createNativeQuery(
+            "with t as (select id, code, value from product where " + filter + " for update) " +
+            "update product p set " + set + "updated_at = :updatedAt, version = p.version + 1 " +
+            "from t where p.id = t.id " +
+            "returning p.id, p.code, p.name, p.value, p.created_at, p.updated_at, p.version, " +
+            "t.code as previous_code, t.value as previous_value");
+        parameters.forEach(query::setParameter);
+        List<Object[]> rows = query.getResultList();
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Object[] row = rows.get(0);
+        ProductResponse product = new ProductResponse(((Number) row[0]).longValue(), (String) row[1],
+            (String) row[2], (BigDecimal) row[3], toLocalDateTime(row[4]), toLocalDateTime(row[5]),
+            ((Number) row[6]).longValue());
+        return new Object[] { product, row[7], row[8] };
+    }
+
+    /**
+     * Inserts the product, or replaces the name and value of the one with the same code, in a single statement.
+     * Returns the product as {@link ProductResponse}, whether it was inserted, and its previous value, which is null
+     * if it was inserted or if it was inserted concurrently after this statement looked for it.
+     */
+    public Object[] upsert(String code, String name, BigDecimal value, LocalDateTime now) {
+        // Selecting the new row from the CTE makes it lock the existing product before the insert runs into it.
+        // Each product_seq value ends a block of IDs that only the caller of nextval hands out, so taking one here
+        // cannot collide with the entity's pooled IDs. xmax is 0 only on a row this statement inserted.
+        Object[] row = (Object[]) getEntityManager().createNativeQuery(
+            "with previous as (select value from product where code = :code for update) " +
+            "insert into product as p (id, code, name, value, version, created_at, updated_at) " +
+            "select nextval('product_seq'), :code, :name, :value, 0, :now, :now " +
+            "from (select count(*) from previous) as locked " +
+            "on conflict (code) do update set name = excluded.name, value = excluded.value, " +
+            "updated_at = excluded.updated_at, version = p.version + 1 " +
+            "returning p.id, p.code, p.name, p.value, p.created_at, p.updated_at, p.version, " +
+            "(p.xmax = 0) as inserted, (select value from previous) as previous_value")
+            .setParameter("code", code)
+            .setParameter("name", name)
+            .setParameter("value", value)
+            .setParameter("now", now)
+            .getSingleResult();
+        ProductResponse product = new ProductResponse(((Number) row[0]).longValue(), (String) row[1],
+            (String) row[2], (BigDecimal) row[3], toLocalDateTime(row[4]), toLocalDateTime(row[5]),
+            ((Number) row[6]).longValue());
+        return new Object[] { product, row[7], row[8] };
+    }
+
+    private static LocalDateTime toLocalDateTime(Object timestamp) {
+        if (timestamp instanceof Timestamp) {
+            return ((Timestamp) timestamp).toLocalDateTime();
+        }
+        return (LocalDateTime) timestamp;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Object[]> deleteMatching(List<Long> ids, List<String> codes) {
+        Map<String, Object> parameters = new HashMap<>();
+        String filter = bulkFilter(ids, codes, null, null, parameters);
+
+        Query query = getEntityManager().createNativeQuery(
+            "delete from product where " + filter + " returning id, code, value");
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    private static String bulkFilter(List<Long> ids, List<String> codes, BigDecimal minValue, BigDecimal maxValue,
+                                     Map<String, Object> parameters) {
+        List<String> selection = new ArrayList<>();
+        if (ids != null && !ids.isEmpty()) {
+            selection.add("id in (:ids)");
+            parameters.put("ids", ids);
+        }
+        if (codes != null && !codes.isEmpty()) {
+            selection.add("code in (:codes)");
+            parameters.put("codes", codes);
+        }
+
+        List<String> conditions = new ArrayList<>();
+        if (!selection.isEmpty()) {
+            conditions.add("(" + String.join(" or ", selection) + ")");
+        }
+        if (minValue != null) {
+            conditions.add("value >= :minValue");
+            parameters.put("minValue", minValue);
+        }
+        if (maxValue != null) {
+            conditions.add("value <= :maxValue");
+            parameters.put("maxValue", maxValue);
+        }
+        if (conditions.isEmpty()) {
+            throw new IllegalArgumentException("At least one product ID, code or value bound is required");
+        }
+        return String.join(" and ", conditions);
+    }
+
+    public Object[] findVersionById(Long id) {
+        List<Object[]> result = getEntityManager()
+            .createQuery("select p.version, coalesce(p.updatedAt, p.createdAt) from Product p where p.id = :id",
+                Object[].class)
+            .setParameter("id", id)
+            .getResultList();
+        return result.isEmpty() ? null : result.get(0);
     }
 
-    public List<Product> findAllOrderByValueDesc() {
-        return find("order by value desc").list();
+    public Object[] findVersionByCode(String code) {
+        List<Object[]> result = getEntityManager()
+            .createQuery("select p.id, p.version, coalesce(p.updatedAt, p.createdAt) from Product p " +
+                "where p.code = :code",
+                Object[].class)
+            .setParameter("code", code)
+            .getResultList();
+        return result.isEmpty() ? null : result.get(0);
     }
 
-    public List<Product> findByNameContaining(String name) {
-        return find("LOWER(name) like LOWER(?1)", "%" + name + "%").list();
+    public void scrollAll(int fetchSize, Consumer<Product> action) {
+        try (StatelessSession session = sessionFactory.openStatelessSession();
+             ScrollableResults<Product> results = session
+                 .createSelectionQuery("from Product order by id", Product.class)
+                 .setFetchSize(fetchSize)
+                 .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                action.accept(results.get());
+            }
+        }
     }
 
-    public boolean existsByCodeAndIdNot(String code, Long id) {
-        return count("code = ?1 and id != ?2", code, id) > 0;
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,187 @@
+package com.autoflex.inventory.repository;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Sort order of a product query, parsed from a list such as {@code value:desc,name}. The product ID is always
+ * appended as the last key, so the order is total and can be resumed from a keyset cursor. The timestamps are
+ * nullable, e.g. on rows written outside the API; their nulls sort last in either direction and are carried in the
+ * cursor as an empty value.
+ */
+public final class ProductSort {
+
+    // PostgreSQL text cannot contain NUL, so it never occurs inside an encoded key value.
+    private static final String SEPARATOR = "\0";
+
+    enum Key {
+        ID("id", "p.id", false, Long::valueOf),
+        CODE("code", "p.code", false, value -> value),
+        NAME("name", "p.name", false, value -> value),
+        VALUE("value", "p.value", false, BigDecimal::new),
+        CREATED_AT("createdAt", "p.createdAt", true, LocalDateTime::parse),
+        UPDATED_AT("updatedAt", "p.updatedAt", true, LocalDateTime::parse);
+
+        final String field;
+        final String column;
+        final boolean nullable;
+        private final Function<String, Object> parser;
+
+        Key(String field, String column, boolean nullable, Function<String, Object> parser) {
+            this.field = field;
+            this.column = column;
+            this.nullable = nullable;
+            this.parser = parser;
+        }
+
+        static Key of(String field) {
+            for (Key key : values()) {
+                if (key.field.equals(field)) {
+                    return key;
+                }
+            }
+            throw new IllegalArgumentException("Unknown sort field: " + field
+                + ", expected one of id, code, name, value, createdAt, updatedAt");
+        }
+    }
+
+    static final class Order {
+
+        final Key key;
+        final boolean descending;
+
+        Order(Key key, boolean descending) {
+            this.key = key;
+            this.descending = descending;
+        }
+    }
+
+    final List<Order> orders;
+    private final String spec;
+
+    private ProductSort(List<Order> orders) {
+        this.orders = orders;
+        List<String> parts = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            parts.add(order.key.field + (order.descending ? ":desc" : ":asc"));
+        }
+        this.spec = String.join(",", parts);
+    }
+
+    public static ProductSort parse(String sort) {
+        List<Order> orders = new ArrayList<>();
+        List<Key> used = new ArrayList<>();
+        if (sort != null && !sort.isBlank()) {
+            for (String part : sort.split(",")) {
+                String[] fieldAndDirection = part.trim().split(":", 2);
+                Key key = Key.of(fieldAndDirection[0].trim());
+                if (used.contains(key)) {
+                    throw new IllegalArgumentException("Duplicate sort field: " + key.field);
+                }
+                boolean descending = false;
+                if (fieldAndDirection.length > 1) {
+                    String direction = fieldAndDirection[1].trim().toLowerCase();
+                    if (!direction.equals("asc") && !direction.equals("desc")) {
+                        throw new IllegalArgumentException("Sort direction must be asc or desc: " + part.trim());
+                    }
+                    descending = direction.equals("desc");
+                }
+                orders.add(new Order(key, descending));
+                used.add(key);
+            }
+        }
+        if (!used.contains(Key.ID)) {
+            // Following the last direction keeps the order uniform, so an index on (key, id) serves it either way.
+            orders.add(new Order(Key.ID, !orders.isEmpty() && orders.get(orders.size() - 1).descending));
+        }
+        return new ProductSort(orders);
+    }
+
+    String orderBy() {
+        List<String> parts = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            parts.add(order.key.column + (order.descending ? " desc" : " asc")
+                + (order.key.nullable ? " nulls last" : ""));
+        }
+        return "order by " + String.join(", ", parts);
+    }
+
+    /**
+     * Whether the keyset can be resumed with a single row comparison: every key has the same direction and none can
+     * be null, since a comparison with null is never true.
+     */
+    boolean isRowComparable() {
+        for (Order order : orders) {
+            if (order.key.nullable) {
+                return false;
+            }
+        }
+        return isUniform();
+    }
+
+    boolean isUniform() {
+        for (Order order : orders) {
+            if (order.descending != orders.get(0).descending) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    String keyColumns() {
+        List<String> columns = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            columns.add(order.key.column);
+        }
+        return String.join(", ", columns);
+    }
+
+    /**
+     * Encodes the sort keys of the last row of a page. The cursor also carries the sort order, so it cannot be
+     * replayed against a different one.
+     */
+    public String cursor(Object[] keys) {
+        StringBuilder value = new StringBuilder(spec);
+        for (Object key : keys) {
+            value.append(SEPARATOR).append(key == null ? "" : key);
+        }
+        byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public Object[] parseCursor(String cursor) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        if (!parts[0].equals(spec)) {
+            throw new IllegalArgumentException("Cursor was issued for sort " + parts[0] + ", not " + spec);
+        }
+        if (parts.length != orders.size() + 1) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        Object[] keys = new Object[orders.size()];
+        try {
+            for (int i = 0; i < keys.length; i++) {
+                Key key = orders.get(i).key;
+                keys[i] = key.nullable && parts[i + 1].isEmpty() ? null : key.parser.apply(parts[i + 1]);
+            }
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return keys;
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
@@ -0,0 +1,58 @@
+package com.autoflex.inventory.repository;
+
+import com.autoflex.inventory.entity.ProductStatsCounter;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.math.BigDecimal;
+
+@ApplicationScoped
+public class ProductStatsCounterRepository implements PanacheRepositoryBase<ProductStatsCounter, Integer> {
+
+    public void add(int slot, long countDelta, BigDecimal valueDelta) {
+        getEntityManager()
+            .createNativeQuery(
+                "insert into product_stats_counter (slot, product_count, total_value, change_count) " +
+                "values (?1, ?2, ?3, 1) " +
+                "on conflict (slot) do update set " +
+                "product_count = product_stats_counter.product_count + excluded.product_count, " +
+                "total_value = product_stats_counter.total_value + excluded.total_value, " +
+                "change_count = product_stats_counter.change_count + 1")
+            .setParameter(1, slot)
+            .setParameter(2, countDelta)
+            .setParameter(3, valueDelta)
+            .executeUpdate();
+    }
+
+    public Object[] totals() {
+        return getEntityManager()
+            .createQuery("select coalesce(sum(c.productCount), 0), coalesce(sum(c.totalValue), 0) " +
+                "from ProductStatsCounter c", Object[].class)
+            .getSingleResult();
+    }
+
+    /**
+     * Returns the product count and the number of product-writing transactions, which together version the catalog.
+     */
+    public Object[] catalogVersion() {
+        return getEntityManager()
+            .createQuery("select coalesce(sum(c.productCount), 0), coalesce(sum(c.changeCount), 0) " +
+                "from ProductStatsCounter c", Object[].class)
+            .getSingleResult();
+    }
+
+    /**
+     * Returns how far the counters are from the product table, as {@code [count drift, value drift]}. Both sides are
+     * read in one statement, so they come from the same snapshot without locking writers out; since every write
+     * adjusts the counters in its own transaction, a consistent snapshot only differs by real drift.
+     */
+    public Object[] drift() {
+        return (Object[]) getEntityManager()
+            .createNativeQuery(
+                "select (select count(*) from product) - " +
+                "(select coalesce(sum(product_count), 0) from product_stats_counter), " +
+                "(select coalesce(sum(value), 0) from product) - " +
+                "(select coalesce(sum(total_value), 0) from product_stats_counter)")
+            .getSingleResult();
+    }
+}
@@ -0,0 +1,50 @@
+package com.autoflex.inventory.repository;
+
+import com.autoflex.inventory.entity.RawMaterial;
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@ApplicationScoped
+public class RawMaterialRepository implements PanacheRepository<RawMaterial> {
+
+    // Also run by the benchmarks module's StockReservationBenchmark.
+    public static final String TAKE_STOCK = "update RawMaterial set stockQuantity = stockQuantity - ?1, " +
+        "version = version + 1, updatedAt = ?2 where id = ?3 and stockQuantity >= ?1";
+
+    public List<RawMaterial> findAllOrderByCode() {
+        return find("order by code").list();
+    }
+
+    public boolean existsByCodeAndIdNot(String code, Long id) {
+        return count("code = ?1 and id != ?2", code, id) > 0;
+    }
+
+    public List<Object[]> findStockLevels() {
+        return getEntityManager()
+            .createQuery("select m.id, m.stockQuantity, m.version from RawMaterial m order by m.id", Object[].class)
+            .getResultList();
+    }
+
+    /**
+     * Takes {@code quantity} units from one material only if that much is in stock. The update locks just that row,
+     * so orders on other materials are not held up; returns false, changing nothing, when stock is short.
+     */
+    public boolean takeStock(Long id, int quantity, LocalDateTime updatedAt) {
+        return update(TAKE_STOCK, quantity, updatedAt, id) == 1;
+    }
+
+    public boolean returnStock(Long id, int quantity, LocalDateTime updatedAt) {
+        return update("stockQuantity = stockQuantity + ?1, version = version + 1, updatedAt = ?2 where id = ?3",
+            quantity, updatedAt, id) == 1;
+    }
+
+    public List<Object[]> findStockLevels(List<Long> ids) {
+        return getEntityManager()
+            .createQuery("select m.id, m.stockQuantity, m.version from RawMaterial m where m.id in (?1) order by m.id",
+                Object[].class)
+            .setParameter(1, ids)
+            .getResultList();
+    }
+}
@@ -0,0 +1,9 @@
+package com.autoflex.inventory.repository;
+
+import com.autoflex.inventory.entity.StockReservation;
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class StockReservationRepository implements PanacheRepository<StockReservation> {
+}
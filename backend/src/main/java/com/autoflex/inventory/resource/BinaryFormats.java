@@ -0,0 +1,30 @@
+package com.autoflex.inventory.resource;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Variant;
+
+import java.util.List;
+
+public final class BinaryFormats {
+
+    public static final String CBOR = "application/cbor";
+    public static final String SMILE = "application/x-jackson-smile";
+
+    public static final MediaType CBOR_TYPE = MediaType.valueOf(CBOR);
+    public static final MediaType SMILE_TYPE = MediaType.valueOf(SMILE);
+
+    private static final List<Variant> VARIANTS =
+        Variant.mediaTypes(MediaType.APPLICATION_JSON_TYPE, CBOR_TYPE, SMILE_TYPE).build();
+
+    private BinaryFormats() {}
+
+    /**
+     * Returns the media type a request negotiates among JSON, CBOR and Smile, weighing the quality values in its
+     * {@code Accept} header, or JSON when none of them is acceptable.
+     */
+    static MediaType negotiate(Request request) {
+        Variant variant = request.selectVariant(VARIANTS);
+        return variant == null ? MediaType.APPLICATION_JSON_TYPE : variant.getMediaType();
+    }
+}
@@ -0,0 +1,48 @@
+package com.autoflex.inventory.resource;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+@Provider
+@Produces({BinaryFormats.CBOR, BinaryFormats.SMILE})
+public class BinaryMessageBodyWriter implements MessageBodyWriter<Object> {
+
+    private final ObjectMapper cborMapper;
+    private final ObjectMapper smileMapper;
+
+    @Inject
+    public BinaryMessageBodyWriter(ObjectMapper objectMapper) {
+        // Copies keep the modules and features of the JSON mapper, so every format carries the same fields.
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return mediaType.isCompatible(BinaryFormats.CBOR_TYPE) || mediaType.isCompatible(BinaryFormats.SMILE_TYPE);
+    }
+
+    @Override
+    public void writeTo(Object value, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+        ObjectMapper mapper = mediaType.isCompatible(BinaryFormats.CBOR_TYPE) ? cborMapper : smileMapper;
+        ObjectWriter writer = genericType == null
+            ? mapper.writerFor(type)
+            : mapper.writerFor(mapper.constructType(genericType));
+        writer.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(entityStream, value);
+    }
+}
@@ -0,0 +1,128 @@
+package com.autoflex.inventory.resource;
+
+import com.autoflex.inventory.dto.ProductMaterialRequest;
+import com.autoflex.inventory.dto.ProductMaterialResponse;
+import com.autoflex.inventory.service.ProductMaterialService;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import java.util.List;
+
+@Path("/api/products/{productId}/materials")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Tag(name = "Product Materials", description = "Operations for managing the raw materials required by a product")
+public class ProductMaterialResource {
+
+    @Inject
+    ProductMaterialService productMaterialService;
+
+    @GET
+    @Operation(
+        summary = "Get the materials of a product",
+        description = "Returns the raw materials and quantities required to produce one unit of the product"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Bill of materials",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(type = SchemaType.ARRAY, implementation = ProductMaterialResponse.class))
+    )
+    @APIResponse(
+        responseCode = "404",
+        description = "Product not found"
+    )
+    public Response getProductMaterials(
+        @Parameter(description = "Product ID", required = true)
+        @PathParam("productId") Long productId) {
+        List<ProductMaterialResponse> materials = productMaterialService.getProductMaterials(productId);
+        return Response.ok(materials).build();
+    }
+
+    @POST
+    @Operation(
+        summary = "Add a material to a product",
+        description = "Links a raw material to the product with the quantity required per unit"
+    )
+    @APIResponse(
+        responseCode = "201",
+        description = "Material added successfully",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = ProductMaterialResponse.class))
+    )
+    @APIResponse(
+        responseCode = "400",
+        description = "Invalid input data or material already linked"
+    )
+    @APIResponse(
+        responseCode = "404",
+        description = "Product or raw material not found"
+    )
+    public Response addProductMaterial(
+        @Parameter(description = "Product ID", required = true)
+        @PathParam("productId") Long productId,
+        @Valid ProductMaterialRequest request) {
+        ProductMaterialResponse material = productMaterialService.addProductMaterial(productId, request);
+        return Response.status(Response.Status.CREATED).entity(material).build();
+    }
+
+    @PUT
+    @Path("/{materialId}")
+    @Operation(
+        summary = "Update the required quantity of a material",
+        description = "Changes how much of the raw material one unit of the product requires"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Material updated successfully",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = ProductMaterialResponse.class))
+    )
+    @APIResponse(
+        responseCode = "404",
+        description = "Material is not part of the product"
+    )
+    public Response updateProductMaterial(
+        @Parameter(description = "Product ID", required = true)
+        @PathParam("productId") Long productId,
+        @Parameter(description = "Raw material ID", required = true)
+        @PathParam("materialId") Long materialId,
+        @Valid ProductMaterialRequest request) {
+        ProductMaterialResponse material =
+            productMaterialService.updateProductMaterial(productId, materialId, request);
+        return Response.ok(material).build();
+    }
+
+    @DELETE
+    @Path("/{materialId}")
+    @Operation(
+        summary = "Remove a material from a product",
+        description = "Unlinks the raw material from the product"
+    )
+    @APIResponse(
+        responseCode = "204",
+        description = "Material removed successfully"
+    )
+    @APIResponse(
+        responseCode = "404",
+        description = "Material is not part of the product"
+    )
+    public Response removeProductMaterial(
+        @Parameter(description = "Product ID", required = true)
+        @PathParam("productId") Long productId,
+        @Parameter(description = "Raw material ID", required = true)
+        @PathParam("materialId") Long materialId) {
+        productMaterialService.removeProductMaterial(productId, materialId);
+        return Response.noContent().build();
+    }
+}
@@ -1,8 +1,36 @@
 package com.autoflex.inventory.resource;
 
+import com.autoflex.inventory.dto.BulkOperationResponse;
+import com.autoflex.inventory.dto.ProductBulkDeleteRequest;
+import com.autoflex.inventory.dto.ProductBulkUpdateRequest;
+import com.autoflex.inventory.dto.ProductCacheStatsResponse;
+import com.autoflex.inventory.dto.ProductChangeFeedResponse;
+import com.autoflex.inventory.dto.ProductChangeResponse;
+import com.autoflex.inventory.dto.ProductImportResponse;
+import com.autoflex.inventory.dto.ProductPage;
+import com.autoflex.inventory.dto.ProductPatchRequest;
+import com.autoflex.inventory.dto.ProductQuery;
+import com.autoflex.inventory.dto.ProductQueryPage;
 import com.autoflex.inventory.dto.ProductRequest;
 import com.autoflex.inventory.dto.ProductResponse;
+import com.autoflex.inventory.dto.ProductStatsResponse;
+import com.autoflex.inventory.dto.ProductUpsertResult;
+import com.autoflex.inventory.dto.ResourceVersion;
+import com.autoflex.inventory.dto.ValueBucketResponse;
+import com.autoflex.inventory.dto.ValuePercentileResponse;
+import com.autoflex.inventory.exception.PreconditionFailedException;
+import com.autoflex.inventory.repository.ProductProjection;
+import com.autoflex.inventory.service.ProductCache;
+import com.autoflex.inventory.service.ProductChangeService;
+import com.autoflex.inventory.service.ProductImportService;
 import com.autoflex.inventory.service.ProductService;
+import com.autoflex.inventory.service.ProductStatsService;
+import com.autoflex.inventory.service.ProductWritePipeline;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.arc.properties.UnlessBuildProperty;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Multi;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
@@ -14,38 +42,291 @@ import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 @Path("/api/products")
+@UnlessBuildProperty(name = "inventory.virtual-threads.enabled", stringValue = "true", enableIfMissing = true)
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Tag(name = "Products", description = "Operations for managing products")
 public class ProductResource {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
     @Inject
     ProductService productService;
 
+    @Inject
+    ProductWritePipeline productWritePipeline;
+
+    @Inject
+    ProductStatsService productStatsService;
+
+    @Inject
+    ProductImportService productImportService;
+
+    @Inject
+    ProductCache productCache;
+
+    @Inject
+    ProductChangeService productChangeService;
+
+    @Inject
+    ObjectMapper objectMapper;
+
     @GET
+    @Produces({MediaType.APPLICATION_JSON, BinaryFormats.CBOR, BinaryFormats.SMILE})
     @Operation(
         summary = "Get all products",
-        description = "Returns a list of all products in the system"
+        description = "Returns a page of products ordered by ID. The cursor for the next page, " +
+            "if any, is returned in the X-Next-Cursor header and is passed back as 'after'"
     )
     @APIResponse(
         responseCode = "200",
-        description = "List of products",
+        description = "Page of products",
+        content = {
+            @Content(mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(type = SchemaType.ARRAY, implementation = ProductResponse.class)),
+            @Content(mediaType = BinaryFormats.CBOR,
+                schema = @Schema(type = SchemaType.ARRAY, implementation = ProductResponse.class)),
+            @Content(mediaType = BinaryFormats.SMILE,
+                schema = @Schema(type = SchemaType.ARRAY, implementation = ProductResponse.class))
+        }
+    )
+    @APIResponse(
+        responseCode = "304",
+        description = "Catalog not modified since the version given in If-None-Match or If-Modified-Since"
+    )
+    @APIResponse(
+        responseCode = "400",
+        description = "Invalid page limit"
+    )
+    public Response getAllProducts(
+        @Parameter(description = "Return only products with an ID greater than this cursor")
+        @QueryParam("after") Long after,
+        @Parameter(description = "Maximum number of products to return")
+        @QueryParam("limit") Integer limit,
+        @Context Request request,
+        @Context HttpHeaders headers) {
+        MediaType format = BinaryFormats.negotiate(request);
+        ResourceVersion version = representation(productService.getCatalogVersion(), format);
+        Response.ResponseBuilder notModified = evaluatePreconditions(request, version);
+        if (notModified != null) {
+            return notModified.build();
+        }
+
+        ProductPage page = productService.getProductsPage(after, limit);
+        Response.ResponseBuilder response = withVersion(Response.ok(page.getItems(), format), version);
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.build();
+    }
+
+    @GET
+    @Path("/query")
+    @Produces({MediaType.APPLICATION_JSON, BinaryFormats.CBOR, BinaryFormats.SMILE})
+    @Operation(
+        summary = "Query products",
+        description = "Returns a page of products matching all given filters, in the given sort order. " +
+            "The cursor for the next page, if any, is returned in the X-Next-Cursor header and is passed back " +
+            "as 'cursor' together with the same filters and sort"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Page of products",
         content = @Content(mediaType = "application/json",
             schema = @Schema(type = SchemaType.ARRAY, implementation = ProductResponse.class))
     )
-    public Response getAllProducts() {
-        List<ProductResponse> products = productService.getAllProducts();
-        return Response.ok(products).build();
+    @APIResponse(
+        responseCode = "400",
+        description = "Invalid sort, cursor, field or limit"
+    )
+    public Response queryProducts(
+        @Parameter(description = "Minimum value, inclusive")
+        @QueryParam("minValue") BigDecimal minValue,
+        @Parameter(description = "Maximum value, inclusive")
+        @QueryParam("maxValue") BigDecimal maxValue,
+        @Parameter(description = "Text the product name contains, case insensitive")
+        @QueryParam("name") String name,
+        @Parameter(description = "Prefix of the product code")
+        @QueryParam("codePrefix") String codePrefix,
+        @Parameter(description = "Created at or after, e.g. 2024-01-31T00:00:00")
+        @QueryParam("createdFrom") LocalDateTime createdFrom,
+        @Parameter(description = "Created before")
+        @QueryParam("createdTo") LocalDateTime createdTo,
+        @Parameter(description = "Updated at or after")
+        @QueryParam("updatedFrom") LocalDateTime updatedFrom,
+        @Parameter(description = "Updated before")
+        @QueryParam("updatedTo") LocalDateTime updatedTo,
+        @Parameter(description = "Comma separated sort fields with optional direction, e.g. value:desc,name; " +
+            "sorted by ID when omitted")
+        @QueryParam("sort") String sort,
+        @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+        @QueryParam("cursor") String cursor,
+        @Parameter(description = "Maximum number of products to return")
+        @QueryParam("limit") Integer limit,
+        @Parameter(description = "Comma separated fields to return, e.g. code,name; all fields when omitted")
+        @QueryParam("fields") String fields) {
+        ProductQuery query = new ProductQuery();
+        query.setMinValue(minValue);
+        query.setMaxValue(maxValue);
+        query.setName(name);
+        query.setCodePrefix(codePrefix);
+        query.setCreatedFrom(createdFrom);
+        query.setCreatedTo(createdTo);
+        query.setUpdatedFrom(updatedFrom);
+        query.setUpdatedTo(updatedTo);
+        query.setSort(sort);
+        query.setCursor(cursor);
+        query.setLimit(limit);
+
+        ProductQueryPage page = productService.queryProducts(projection(fields), query);
+        Response.ResponseBuilder response = Response.ok(page.getItems());
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.build();
+    }
+
+    @GET
+    @Path("/stream")
+    @Operation(
+        summary = "Stream all products",
+        description = "Streams every product as a JSON array, reading rows from a database cursor " +
+            "so memory use does not grow with the size of the catalog"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "All products",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(type = SchemaType.ARRAY, implementation = ProductResponse.class))
+    )
+    public Response streamAllProducts(@Context Request request) {
+        ResourceVersion version = productService.getCatalogVersion();
+        Response.ResponseBuilder notModified = evaluatePreconditions(request, version);
+        if (notModified != null) {
+            return notModified.build();
+        }
+
+        StreamingOutput stream = output -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+                generator.writeStartArray();
+                productService.streamAllProducts(product -> {
+                    try {
+                        generator.writeObject(product);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return withVersion(Response.ok(stream, MediaType.APPLICATION_JSON), version).build();
+    }
+
+    @GET
+    @Path("/changes")
+    @Operation(
+        summary = "Get product changes",
+        description = "Returns the products created, updated or deleted after the given cursor, at most one " +
+            "entry per product, with deletes reported as tombstones. Pass nextCursor back as 'since' to continue"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Page of product changes",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = ProductChangeFeedResponse.class))
+    )
+    @APIResponse(
+        responseCode = "400",
+        description = "Invalid cursor or limit"
+    )
+    @APIResponse(
+        responseCode = "410",
+        description = "Cursor older than the retained changes; resync from a full read"
+    )
+    public Response getProductChanges(
+        @Parameter(description = "Cursor returned by a previous call; omit to read the feed from the start")
+        @QueryParam("since") String since,
+        @Parameter(description = "Maximum number of changes to read")
+        @QueryParam("limit") Integer limit) {
+        ProductChangeFeedResponse changes = productChangeService.getChanges(since, limit);
+        return Response.ok(changes).build();
+    }
+
+    @GET
+    @Path("/changes/head")
+    @Operation(
+        summary = "Get the current change cursor",
+        description = "Returns the cursor of the latest change. Take it before a full read of the catalog " +
+            "and sync from it afterwards to pick up writes that happened during the read"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Latest change cursor"
+    )
+    public Response getProductChangesHead() {
+        return Response.ok(Map.of("cursor", productChangeService.getHeadCursor())).build();
+    }
+
+    @GET
+    @Path("/changes/stream")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @Blocking
+    @Operation(
+        summary = "Stream product changes",
+        description = "Sends the changes after the given cursor as server-sent events, then keeps the " +
+            "connection open and pushes new changes as they are committed. The event ID is the change cursor"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Stream of product changes"
+    )
+    @APIResponse(
+        responseCode = "400",
+        description = "Invalid cursor"
+    )
+    @APIResponse(
+        responseCode = "410",
+        description = "Cursor older than the retained changes; resync from a full read"
+    )
+    public Multi<OutboundSseEvent> streamProductChanges(
+        @Parameter(description = "Cursor to resume from; defaults to the Last-Event-ID header")
+        @QueryParam("since") String since,
+        @HeaderParam(HttpHeaders.LAST_EVENT_ID_HEADER) String lastEventId,
+        @Context Sse sse) {
+        return productChangeService.streamChanges(since != null ? since : lastEventId)
+            .map(change -> sse.newEventBuilder()
+                .id(change.getCursor())
+                .name(change.getType().name().toLowerCase())
+                .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                .data(ProductChangeResponse.class, change)
+                .build());
     }
 
     @GET
     @Path("/{id}")
+    @Produces({MediaType.APPLICATION_JSON, BinaryFormats.CBOR, BinaryFormats.SMILE})
     @Operation(
         summary = "Get product by ID",
         description = "Returns a single product by its ID"
@@ -53,8 +334,15 @@ public class ProductResource {
     @APIResponse(
         responseCode = "200",
         description = "Product found",
-        content = @Content(mediaType = "application/json",
-            schema = @Schema(implementation = ProductResponse.class))
+        content = {
+            @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = ProductResponse.class)),
+            @Content(mediaType = BinaryFormats.CBOR, schema = @Schema(implementation = ProductResponse.class)),
+            @Content(mediaType = BinaryFormats.SMILE, schema = @Schema(implementation = ProductResponse.class))
+        }
+    )
+    @APIResponse(
+        responseCode = "304",
+        description = "Product not modified since the version given in If-None-Match or If-Modified-Since"
     )
     @APIResponse(
         responseCode = "404",
@@ -62,50 +350,117 @@ public class ProductResource {
     )
     public Response getProductById(
         @Parameter(description = "Product ID", required = true)
-        @PathParam("id") Long id) {
+        @PathParam("id") Long id,
+        @Context Request request,
+        @Context HttpHeaders headers) {
+        MediaType format = BinaryFormats.negotiate(request);
+        if (isConditional(headers)) {
+            Response.ResponseBuilder notModified =
+                evaluatePreconditions(request, representation(productService.getProductVersion(id), format));
+            if (notModified != null) {
+                return notModified.build();
+            }
+        }
         ProductResponse product = productService.getProductById(id);
-        return Response.ok(product).build();
+        ResourceVersion version = representation(ProductService.productVersion(product), format);
+        return withVersion(Response.ok(product, format), version).build();
     }
 
     @GET
     @Path("/code/{code}")
+    @Produces({MediaType.APPLICATION_JSON, BinaryFormats.CBOR, BinaryFormats.SMILE})
     @Operation(
         summary = "Get product by code",
         description = "Returns a single product by its code"
     )
     public Response getProductByCode(
         @Parameter(description = "Product code", required = true)
-        @PathParam("code") String code) {
+        @PathParam("code") String code,
+        @Context Request request,
+        @Context HttpHeaders headers) {
+        MediaType format = BinaryFormats.negotiate(request);
+        if (isConditional(headers)) {
+            Response.ResponseBuilder notModified =
+                evaluatePreconditions(request, representation(productService.getProductVersionByCode(code), format));
+            if (notModified != null) {
+                return notModified.build();
+            }
+        }
         ProductResponse product = productService.getProductByCode(code);
-        return Response.ok(product).build();
+        ResourceVersion version = representation(ProductService.productVersion(product), format);
+        return withVersion(Response.ok(product, format), version).build();
     }
 
     @GET
     @Path("/search")
+    @Produces({MediaType.APPLICATION_JSON, BinaryFormats.CBOR, BinaryFormats.SMILE})
     @Operation(
         summary = "Search products by name",
-        description = "Returns products that match the search term in their name"
+        description = "Returns products that contain the search term in their name, best matches first"
+    )
+    @APIResponse(
+        responseCode = "400",
+        description = "Missing search term or invalid limit"
     )
     public Response searchProducts(
-        @Parameter(description = "Search term")
-        @QueryParam("name") String name) {
-        List<ProductResponse> products = productService.searchProductsByName(name);
+        @Parameter(description = "Search term", required = true)
+        @QueryParam("name") String name,
+        @Parameter(description = "Maximum number of products to return")
+        @QueryParam("limit") Integer limit,
+        @Parameter(description = "Comma separated fields to return, e.g. code,name; all fields when omitted")
+        @QueryParam("fields") String fields) {
+        List<?> products = productService.searchProductsByName(projection(fields), name, limit);
+        return Response.ok(products).build();
+    }
+
+    @GET
+    @Path("/search/typeahead")
+    @Produces({MediaType.APPLICATION_JSON, BinaryFormats.CBOR, BinaryFormats.SMILE})
+    @Operation(
+        summary = "Suggest products by name prefix",
+        description = "Returns products whose name starts with the given prefix, in alphabetical order"
+    )
+    @APIResponse(
+        responseCode = "400",
+        description = "Missing prefix or invalid limit"
+    )
+    public Response suggestProducts(
+        @Parameter(description = "Name prefix", required = true)
+        @QueryParam("prefix") String prefix,
+        @Parameter(description = "Maximum number of products to return")
+        @QueryParam("limit") Integer limit,
+        @Parameter(description = "Comma separated fields to return, e.g. code,name; all fields when omitted")
+        @QueryParam("fields") String fields) {
+        List<?> products = productService.suggestProductsByName(projection(fields), prefix, limit);
         return Response.ok(products).build();
     }
 
     @GET
     @Path("/sorted/value-desc")
+    @Produces({MediaType.APPLICATION_JSON, BinaryFormats.CBOR, BinaryFormats.SMILE})
     @Operation(
         summary = "Get products sorted by value (descending)",
         description = "Returns products sorted from highest to lowest value"
     )
-    public Response getProductsSortedByValueDesc() {
-        List<ProductResponse> products = productService.getProductsSortedByValueDesc();
-        return Response.ok(products).build();
+    public Response getProductsSortedByValueDesc(
+        @Parameter(description = "Comma separated fields to return, e.g. code,name; all fields when omitted")
+        @QueryParam("fields") String fields,
+        @Context Request request,
+        @Context HttpHeaders headers) {
+        ProductProjection<?> projection = projection(fields);
+        MediaType format = BinaryFormats.negotiate(request);
+        ResourceVersion version = representation(productService.getCatalogVersion(), format, fields);
+        Response.ResponseBuilder notModified = evaluatePreconditions(request, version);
+        if (notModified != null) {
+            return notModified.build();
+        }
+        List<?> products = productService.getProductsSortedByValueDesc(projection);
+        return withVersion(Response.ok(products, format), version).build();
     }
 
     @GET
     @Path("/filter/value-range")
+    @Produces({MediaType.APPLICATION_JSON, BinaryFormats.CBOR, BinaryFormats.SMILE})
     @Operation(
         summary = "Filter products by value range",
         description = "Returns products within the specified value range"
@@ -114,9 +469,20 @@ public class ProductResource {
         @Parameter(description = "Minimum value")
         @QueryParam("min") BigDecimal minValue,
         @Parameter(description = "Maximum value")
-        @QueryParam("max") BigDecimal maxValue) {
-        List<ProductResponse> products = productService.getProductsByValueRange(minValue, maxValue);
-        return Response.ok(products).build();
+        @QueryParam("max") BigDecimal maxValue,
+        @Parameter(description = "Comma separated fields to return, e.g. code,name; all fields when omitted")
+        @QueryParam("fields") String fields,
+        @Context Request request,
+        @Context HttpHeaders headers) {
+        ProductProjection<?> projection = projection(fields);
+        MediaType format = BinaryFormats.negotiate(request);
+        ResourceVersion version = representation(productService.getCatalogVersion(), format, fields);
+        Response.ResponseBuilder notModified = evaluatePreconditions(request, version);
+        if (notModified != null) {
+            return notModified.build();
+        }
+        List<?> products = productService.getProductsByValueRange(projection, minValue, maxValue);
+        return withVersion(Response.ok(products, format), version).build();
     }
 
     @POST
@@ -135,10 +501,57 @@ public class ProductResource {
         description = "Invalid input data"
     )
     public Response createProduct(@Valid ProductRequest request) {
-        ProductResponse product = productService.createProduct(request);
+        ProductResponse product = productWritePipeline.createProduct(request);
         return Response.status(Response.Status.CREATED).entity(product).build();
     }
 
+    @POST
+    @Path("/import")
+    @Operation(
+        summary = "Import products from a JSON array",
+        description = "Creates products in batches from a JSON array and reports the outcome of every row. A " +
+            "malformed element stops the import: rows before it are kept, and the report lists it as failed with " +
+            "complete set to false"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Import report",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = ProductImportResponse.class))
+    )
+    @APIResponse(
+        responseCode = "400",
+        description = "Body is not a JSON array"
+    )
+    public Response importProducts(InputStream body) {
+        ProductImportResponse result = productImportService.importJsonArray(body);
+        return Response.ok(result).build();
+    }
+
+    @POST
+    @Path("/import")
+    @Consumes(ProductImportService.NDJSON)
+    @Operation(
+        summary = "Import products from NDJSON",
+        description = "Creates products in batches from one JSON object per line and reports the outcome of every row"
+    )
+    public Response importProductsNdjson(InputStream body) {
+        ProductImportResponse result = productImportService.importNdjson(body);
+        return Response.ok(result).build();
+    }
+
+    @POST
+    @Path("/import")
+    @Consumes(ProductImportService.CSV)
+    @Operation(
+        summary = "Import products from CSV",
+        description = "Creates products in batches from CSV with a code,name,value header and reports the outcome of every row"
+    )
+    public Response importProductsCsv(InputStream body) {
+        ProductImportResponse result = productImportService.importCsv(body);
+        return Response.ok(result).build();
+    }
+
     @PUT
     @Path("/{id}")
     @Operation(
@@ -159,12 +572,88 @@ public class ProductResource {
         responseCode = "400",
         description = "Invalid input data"
     )
+    @APIResponse(
+        responseCode = "409",
+        description = "Product kept changing concurrently and the update gave up retrying"
+    )
+    @APIResponse(
+        responseCode = "412",
+        description = "Product is no longer at the version given in If-Match"
+    )
     public Response updateProduct(
         @Parameter(description = "Product ID", required = true)
         @PathParam("id") Long id,
+        @Valid ProductRequest request,
+        @Context HttpHeaders headers) {
+        ProductResponse product = productWritePipeline.updateProduct(id, request, expectedVersion(id, headers));
+        return withVersion(Response.ok(product), ProductService.productVersion(product)).build();
+    }
+
+    @PUT
+    @Path("/code/{code}")
+    @Operation(
+        summary = "Create or replace a product by code",
+        description = "Creates the product with the given code, or replaces the name and value of the existing one"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Existing product replaced",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = ProductResponse.class))
+    )
+    @APIResponse(
+        responseCode = "201",
+        description = "Product created",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = ProductResponse.class))
+    )
+    @APIResponse(
+        responseCode = "400",
+        description = "Invalid input data, or a body code other than the one in the path"
+    )
+    public Response upsertProduct(
+        @Parameter(description = "Product code", required = true)
+        @PathParam("code") String code,
         @Valid ProductRequest request) {
-        ProductResponse product = productService.updateProduct(id, request);
-        return Response.ok(product).build();
+        ProductUpsertResult result = productWritePipeline.upsertProduct(code, request);
+        Response.ResponseBuilder response = result.isCreated()
+            ? Response.status(Response.Status.CREATED) : Response.status(Response.Status.OK);
+        return withVersion(response.entity(result.getProduct()), ProductService.productVersion(result.getProduct()))
+            .build();
+    }
+
+    @PATCH
+    @Path("/{id}")
+    @Consumes({MERGE_PATCH_JSON, MediaType.APPLICATION_JSON})
+    @Operation(
+        summary = "Partially update a product",
+        description = "Applies a JSON Merge Patch: only the fields present in the body are changed"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Product updated successfully",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = ProductResponse.class))
+    )
+    @APIResponse(
+        responseCode = "404",
+        description = "Product not found"
+    )
+    @APIResponse(
+        responseCode = "400",
+        description = "Invalid input data"
+    )
+    @APIResponse(
+        responseCode = "412",
+        description = "Product is no longer at the version given in If-Match"
+    )
+    public Response patchProduct(
+        @Parameter(description = "Product ID", required = true)
+        @PathParam("id") Long id,
+        @Valid ProductPatchRequest request,
+        @Context HttpHeaders headers) {
+        ProductResponse product = productWritePipeline.patchProduct(id, request, expectedVersion(id, headers));
+        return withVersion(Response.ok(product), ProductService.productVersion(product)).build();
     }
 
     @DELETE
@@ -181,13 +670,61 @@ public class ProductResource {
         responseCode = "404",
         description = "Product not found"
     )
+    @APIResponse(
+        responseCode = "412",
+        description = "Product is no longer at the version given in If-Match"
+    )
     public Response deleteProduct(
         @Parameter(description = "Product ID", required = true)
-        @PathParam("id") Long id) {
-        productService.deleteProduct(id);
+        @PathParam("id") Long id,
+        @Context HttpHeaders headers) {
+        productWritePipeline.deleteProduct(id, expectedVersion(id, headers));
         return Response.noContent().build();
     }
 
+    @POST
+    @Path("/bulk/update")
+    @Operation(
+        summary = "Update the value of many products",
+        description = "Sets, adds an amount to, or applies a percentage to the value of every product matching " +
+            "the given IDs or codes and optional value bounds, in a single statement and transaction"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Products updated",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = BulkOperationResponse.class))
+    )
+    @APIResponse(
+        responseCode = "400",
+        description = "Missing filter, invalid change or a resulting value that is not positive"
+    )
+    public Response bulkUpdateProducts(@Valid ProductBulkUpdateRequest request) {
+        BulkOperationResponse result = productService.bulkUpdateValues(request);
+        return Response.ok(result).build();
+    }
+
+    @POST
+    @Path("/bulk/delete")
+    @Operation(
+        summary = "Delete many products",
+        description = "Deletes every product matching the given IDs or codes in a single statement and transaction"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Products deleted",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = BulkOperationResponse.class))
+    )
+    @APIResponse(
+        responseCode = "400",
+        description = "No IDs or codes given"
+    )
+    public Response bulkDeleteProducts(@Valid ProductBulkDeleteRequest request) {
+        BulkOperationResponse result = productService.bulkDelete(request);
+        return Response.ok(result).build();
+    }
+
     @GET
     @Path("/count")
     @Operation(
@@ -206,10 +743,83 @@ public class ProductResource {
         description = "Returns the sum of values of all products"
     )
     public Response getTotalProductsValue() {
-        BigDecimal totalValue = productService.getTotalProductsValue();
+        BigDecimal totalValue = productStatsService.getTotalValue();
         return Response.ok(totalValue).build();
     }
 
+    @GET
+    @Path("/stats/summary")
+    @Operation(
+        summary = "Get product value statistics",
+        description = "Returns the count, sum, minimum, maximum and average of product values"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Product value statistics",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = ProductStatsResponse.class))
+    )
+    public Response getProductStats() {
+        ProductStatsResponse stats = productStatsService.getSummary();
+        return Response.ok(stats).build();
+    }
+
+    @GET
+    @Path("/stats/value-buckets")
+    @Operation(
+        summary = "Get product count per value bucket",
+        description = "Splits the range between the lowest and highest product value into " +
+            "equal-width buckets and returns how many products fall in each non-empty bucket"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Product count per value bucket",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(type = SchemaType.ARRAY, implementation = ValueBucketResponse.class))
+    )
+    public Response getValueBuckets(
+        @Parameter(description = "Number of buckets (1-100)")
+        @QueryParam("buckets") Integer buckets) {
+        List<ValueBucketResponse> result = productStatsService.getValueBuckets(buckets);
+        return Response.ok(result).build();
+    }
+
+    @GET
+    @Path("/stats/percentiles")
+    @Operation(
+        summary = "Get product value percentiles",
+        description = "Returns the product value at each requested percentile (0-100)"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Product value percentiles",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(type = SchemaType.ARRAY, implementation = ValuePercentileResponse.class))
+    )
+    public Response getValuePercentiles(
+        @Parameter(description = "Percentiles to compute, defaults to 50, 90, 95 and 99")
+        @QueryParam("p") List<Double> percentiles) {
+        List<ValuePercentileResponse> result = productStatsService.getPercentiles(percentiles);
+        return Response.ok(result).build();
+    }
+
+    @GET
+    @Path("/cache/stats")
+    @Operation(
+        summary = "Get product cache statistics",
+        description = "Returns the size and hit, miss and eviction counters of the product lookup cache"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Product cache statistics",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = ProductCacheStatsResponse.class))
+    )
+    public Response getCacheStats() {
+        ProductCacheStatsResponse stats = productCache.getStats();
+        return Response.ok(stats).build();
+    }
+
     @GET
     @Path("/health")
     @Operation(
@@ -219,4 +829,79 @@ public class ProductResource {
     public Response healthCheck() {
         return Response.ok("Product service is operational").build();
     }
+
+    private static boolean isConditional(HttpHeaders headers) {
+        return headers.getHeaderString(HttpHeaders.IF_NONE_MATCH) != null ||
+            headers.getHeaderString(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    // If-Match uses strong comparison, so weak tags and tags of another product can never match.
+    private static Long expectedVersion(Long id, HttpHeaders headers) {
+        String ifMatch = headers.getHeaderString(HttpHeaders.IF_MATCH);
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        for (String tag : ifMatch.split(",")) {
+            String etag = tag.trim();
+            if (etag.length() < 2 || !etag.startsWith("\"") || !etag.endsWith("\"")) {
+                continue;
+            }
+            Long version = ProductService.versionFromEtag(id, etag.substring(1, etag.length() - 1));
+            if (version != null) {
+                return version;
+            }
+        }
+        throw new PreconditionFailedException("If-Match does not name a version of product " + id);
+    }
+
+    private static ProductProjection<?> projection(String fields) {
+        return fields == null || fields.isBlank() ? ProductProjection.RESPONSE : ProductProjection.fields(fields);
+    }
+
+    private static ResourceVersion representation(ResourceVersion version, MediaType format, String fields) {
+        ResourceVersion representation = representation(version, format);
+        if (fields == null || fields.isBlank()) {
+            return representation;
+        }
+        return new ResourceVersion(representation.getEtag() + "-f" + Integer.toHexString(fields.hashCode()),
+            representation.getLastModified());
+    }
+
+    // CBOR and Smile bodies are different representations of the same version, so each needs its own strong ETag. The
+    // response is sent in the same negotiated format, so the ETag always matches the body.
+    private static ResourceVersion representation(ResourceVersion version, MediaType format) {
+        if (format.isCompatible(MediaType.APPLICATION_JSON_TYPE)) {
+            return version;
+        }
+        String suffix = format.isCompatible(BinaryFormats.CBOR_TYPE) ? "-cbor" : "-smile";
+        return new ResourceVersion(version.getEtag() + suffix, version.getLastModified());
+    }
+
+    private static Response.ResponseBuilder evaluatePreconditions(Request request, ResourceVersion version) {
+        EntityTag tag = new EntityTag(version.getEtag());
+        Date lastModified = lastModified(version);
+        Response.ResponseBuilder notModified = lastModified == null
+            ? request.evaluatePreconditions(tag)
+            : request.evaluatePreconditions(lastModified, tag);
+        return notModified == null ? null : withVersion(notModified, version);
+    }
+
+    private static Response.ResponseBuilder withVersion(Response.ResponseBuilder response, ResourceVersion version) {
+        response.tag(new EntityTag(version.getEtag()));
+        response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        Date lastModified = lastModified(version);
+        if (lastModified != null) {
+            response.lastModified(lastModified);
+        }
+        return response;
+    }
+
+    private static Date lastModified(ResourceVersion version) {
+        if (version.getLastModified() == null) {
+            return null;
+        }
+        // HTTP dates have one-second resolution; truncating keeps If-Modified-Since comparisons exact.
+        return Date.from(version.getLastModified().truncatedTo(ChronoUnit.SECONDS)
+            .atZone(ZoneId.systemDefault()).toInstant());
+    }
 }
@@ -0,0 +1,233 @@
+package com.autoflex.inventory.resource;
+
+import com.autoflex.inventory.dto.ProductionCapacityResponse;
+import com.autoflex.inventory.dto.ProductionPlanResponse;
+import com.autoflex.inventory.dto.StockReservationRequest;
+import com.autoflex.inventory.dto.StockReservationResponse;
+import com.autoflex.inventory.service.ProductionService;
+import com.autoflex.inventory.service.StockReservationService;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import java.util.List;
+
+@Path("/api/production")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Tag(name = "Production", description = "Production capacity based on raw material stock")
+public class ProductionResource {
+
+    @Inject
+    ProductionService productionService;
+
+    @Inject
+    StockReservationService stockReservationService;
+
+    @GET
+    @Path("/capacity")
+    @Operation(
+        summary = "Get production capacity",
+        description = "Returns the maximum quantity of each product with a bill of materials " +
+            "that can be produced from the current stock"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Production capacity per product",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(type = SchemaType.ARRAY, implementation = ProductionCapacityResponse.class))
+    )
+    public Response getProductionCapacity() {
+        List<ProductionCapacityResponse> capacity = productionService.getProductionCapacity();
+        return Response.ok(capacity).build();
+    }
+
+    @GET
+    @Path("/capacity/{productId}")
+    @Operation(
+        summary = "Get production capacity of a product",
+        description = "Returns the maximum quantity of the product that can be produced from the current stock"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Production capacity",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = ProductionCapacityResponse.class))
+    )
+    @APIResponse(
+        responseCode = "404",
+        description = "Product not found"
+    )
+    public Response getProductCapacity(
+        @Parameter(description = "Product ID", required = true)
+        @PathParam("productId") Long productId) {
+        ProductionCapacityResponse capacity = productionService.getProductionCapacity(productId);
+        return Response.ok(capacity).build();
+    }
+
+    @GET
+    @Path("/plan")
+    @Operation(
+        summary = "Get the production plan with the highest total value",
+        description = "Chooses how many units of each product to make from the current stock so that the total " +
+            "product value is maximized. GREEDY fills the most valuable products first; EXACT runs a parallel " +
+            "branch and bound seeded with the greedy plan and returns the best plan found within the time budget"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Production plan",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = ProductionPlanResponse.class))
+    )
+    @APIResponse(
+        responseCode = "400",
+        description = "Invalid mode or time budget"
+    )
+    public Response getProductionPlan(
+        @Parameter(description = "GREEDY (default) or EXACT")
+        @QueryParam("mode") String mode,
+        @Parameter(description = "Time budget for the EXACT mode in milliseconds")
+        @QueryParam("timeBudgetMs") Long timeBudgetMillis) {
+        ProductionPlanResponse plan = productionService.getProductionPlan(mode, timeBudgetMillis);
+        return Response.ok(plan).build();
+    }
+
+    @POST
+    @Path("/reservations")
+    @Operation(
+        summary = "Reserve stock for a production order",
+        description = "Takes the stock for every material in the product's bill of materials, multiplied by the " +
+            "order quantity. Either all materials are taken or none is"
+    )
+    @APIResponse(
+        responseCode = "201",
+        description = "Stock reserved",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = StockReservationResponse.class))
+    )
+    @APIResponse(
+        responseCode = "400",
+        description = "Invalid request, no bill of materials or insufficient stock"
+    )
+    @APIResponse(
+        responseCode = "404",
+        description = "Product not found"
+    )
+    public Response reserveStock(@Valid StockReservationRequest request) {
+        StockReservationResponse reservation = stockReservationService.reserve(request);
+        return Response.status(Response.Status.CREATED).entity(reservation).build();
+    }
+
+    @GET
+    @Path("/reservations/{id}")
+    @Operation(
+        summary = "Get a stock reservation",
+        description = "Returns a reservation with its status and the stock taken per material"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Stock reservation",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = StockReservationResponse.class))
+    )
+    @APIResponse(
+        responseCode = "404",
+        description = "Reservation not found"
+    )
+    public Response getReservation(
+        @Parameter(description = "Reservation ID", required = true)
+        @PathParam("id") Long id) {
+        StockReservationResponse reservation = stockReservationService.getReservation(id);
+        return Response.ok(reservation).build();
+    }
+
+    @POST
+    @Path("/reservations/{id}/consume")
+    @Consumes(MediaType.WILDCARD)
+    @Operation(
+        summary = "Consume a stock reservation",
+        description = "Marks the reserved stock as used by production; it is not returned afterwards"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Reservation consumed",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = StockReservationResponse.class))
+    )
+    @APIResponse(
+        responseCode = "400",
+        description = "Reservation already consumed or released"
+    )
+    @APIResponse(
+        responseCode = "404",
+        description = "Reservation not found"
+    )
+    public Response consumeReservation(
+        @Parameter(description = "Reservation ID", required = true)
+        @PathParam("id") Long id) {
+        StockReservationResponse reservation = stockReservationService.consumeReservation(id);
+        return Response.ok(reservation).build();
+    }
+
+    @POST
+    @Path("/reservations/{id}/release")
+    @Consumes(MediaType.WILDCARD)
+    @Operation(
+        summary = "Release a stock reservation",
+        description = "Returns the reserved stock to each material"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Reservation released",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = StockReservationResponse.class))
+    )
+    @APIResponse(
+        responseCode = "400",
+        description = "Reservation already consumed or released"
+    )
+    @APIResponse(
+        responseCode = "404",
+        description = "Reservation not found"
+    )
+    public Response releaseReservation(
+        @Parameter(description = "Reservation ID", required = true)
+        @PathParam("id") Long id) {
+        StockReservationResponse reservation = stockReservationService.releaseReservation(id);
+        return Response.ok(reservation).build();
+    }
+
+    @POST
+    @Path("/consume")
+    @Operation(
+        summary = "Consume stock for a production order",
+        description = "Takes the stock for the order like a reservation and records it as consumed in one step"
+    )
+    @APIResponse(
+        responseCode = "201",
+        description = "Stock consumed",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = StockReservationResponse.class))
+    )
+    @APIResponse(
+        responseCode = "400",
+        description = "Invalid request, no bill of materials or insufficient stock"
+    )
+    @APIResponse(
+        responseCode = "404",
+        description = "Product not found"
+    )
+    public Response consumeStock(@Valid StockReservationRequest request) {
+        StockReservationResponse consumption = stockReservationService.consume(request);
+        return Response.status(Response.Status.CREATED).entity(consumption).build();
+    }
+}
@@ -0,0 +1,175 @@
+package com.autoflex.inventory.resource;
+
+import com.autoflex.inventory.dto.RawMaterialRequest;
+import com.autoflex.inventory.dto.RawMaterialResponse;
+import com.autoflex.inventory.dto.StockUpdateRequest;
+import com.autoflex.inventory.service.RawMaterialService;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import java.util.List;
+
+@Path("/api/raw-materials")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Tag(name = "Raw Materials", description = "Operations for managing raw materials and their stock")
+public class RawMaterialResource {
+
+    @Inject
+    RawMaterialService rawMaterialService;
+
+    @GET
+    @Operation(
+        summary = "Get all raw materials",
+        description = "Returns every raw material ordered by code"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "List of raw materials",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(type = SchemaType.ARRAY, implementation = RawMaterialResponse.class))
+    )
+    public Response getAllRawMaterials() {
+        List<RawMaterialResponse> materials = rawMaterialService.getAllRawMaterials();
+        return Response.ok(materials).build();
+    }
+
+    @GET
+    @Path("/{id}")
+    @Operation(
+        summary = "Get raw material by ID",
+        description = "Returns a single raw material by its ID"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Raw material found",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = RawMaterialResponse.class))
+    )
+    @APIResponse(
+        responseCode = "404",
+        description = "Raw material not found"
+    )
+    public Response getRawMaterialById(
+        @Parameter(description = "Raw material ID", required = true)
+        @PathParam("id") Long id) {
+        RawMaterialResponse material = rawMaterialService.getRawMaterialById(id);
+        return Response.ok(material).build();
+    }
+
+    @GET
+    @Path("/code/{code}")
+    @Operation(
+        summary = "Get raw material by code",
+        description = "Returns a single raw material by its code"
+    )
+    public Response getRawMaterialByCode(
+        @Parameter(description = "Raw material code", required = true)
+        @PathParam("code") String code) {
+        RawMaterialResponse material = rawMaterialService.getRawMaterialByCode(code);
+        return Response.ok(material).build();
+    }
+
+    @POST
+    @Operation(
+        summary = "Create a new raw material",
+        description = "Creates a new raw material with the provided data"
+    )
+    @APIResponse(
+        responseCode = "201",
+        description = "Raw material created successfully",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = RawMaterialResponse.class))
+    )
+    @APIResponse(
+        responseCode = "400",
+        description = "Invalid input data"
+    )
+    public Response createRawMaterial(@Valid RawMaterialRequest request) {
+        RawMaterialResponse material = rawMaterialService.createRawMaterial(request);
+        return Response.status(Response.Status.CREATED).entity(material).build();
+    }
+
+    @PUT
+    @Path("/{id}")
+    @Operation(
+        summary = "Update an existing raw material",
+        description = "Updates the raw material with the specified ID"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Raw material updated successfully",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = RawMaterialResponse.class))
+    )
+    @APIResponse(
+        responseCode = "404",
+        description = "Raw material not found"
+    )
+    @APIResponse(
+        responseCode = "400",
+        description = "Invalid input data"
+    )
+    public Response updateRawMaterial(
+        @Parameter(description = "Raw material ID", required = true)
+        @PathParam("id") Long id,
+        @Valid RawMaterialRequest request) {
+        RawMaterialResponse material = rawMaterialService.updateRawMaterial(id, request);
+        return Response.ok(material).build();
+    }
+
+    @PUT
+    @Path("/{id}/stock")
+    @Operation(
+        summary = "Set the stock of a raw material",
+        description = "Replaces the stock quantity of the raw material with the specified ID"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Stock updated successfully",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = RawMaterialResponse.class))
+    )
+    @APIResponse(
+        responseCode = "404",
+        description = "Raw material not found"
+    )
+    public Response updateStock(
+        @Parameter(description = "Raw material ID", required = true)
+        @PathParam("id") Long id,
+        @Valid StockUpdateRequest request) {
+        RawMaterialResponse material = rawMaterialService.updateStock(id, request);
+        return Response.ok(material).build();
+    }
+
+    @DELETE
+    @Path("/{id}")
+    @Operation(
+        summary = "Delete a raw material",
+        description = "Deletes the raw material with the specified ID and removes it from every product"
+    )
+    @APIResponse(
+        responseCode = "204",
+        description = "Raw material deleted successfully"
+    )
+    @APIResponse(
+        responseCode = "404",
+        description = "Raw material not found"
+    )
+    public Response deleteRawMaterial(
+        @Parameter(description = "Raw material ID", required = true)
+        @PathParam("id") Long id) {
+        rawMaterialService.deleteRawMaterial(id);
+        return Response.noContent().build();
+    }
+}
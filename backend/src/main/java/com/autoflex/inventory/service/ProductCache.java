@@ -0,0 +1,171 @@
+package com.autoflex.inventory.service;
+
+import com.autoflex.inventory.dto.ProductCacheStatsResponse;
+import com.autoflex.inventory.dto.ProductResponse;
+import com.autoflex.inventory.event.ProductChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Products by ID and by code. Each cached product is one entry, kept in least recently used order by ID; the code
+ * index points at the same entries, so {@code max-size} bounds the number of distinct products cached.
+ */
+@ApplicationScoped
+public class ProductCache {
+
+    @ConfigProperty(name = "inventory.product-cache.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "inventory.product-cache.max-size", defaultValue = "10000")
+    int maxSize;
+
+    @ConfigProperty(name = "inventory.product-cache.ttl", defaultValue = "5m")
+    Duration ttl;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // Bumped on every invalidation so a load that raced with a write is not cached.
+    private final AtomicLong generation = new AtomicLong();
+
+    private Map<Long, Entry> byId;
+    private Map<String, Entry> byCode;
+
+    @PostConstruct
+    void init() {
+        byId = new BoundedMap();
+        byCode = new HashMap<>();
+    }
+
+    public ProductResponse getById(Long id, Function<Long, ProductResponse> loader) {
+        return lookup(byId, id, loader);
+    }
+
+    public ProductResponse getByCode(String code, Function<String, ProductResponse> loader) {
+        return lookup(byCode, code, loader);
+    }
+
+    public synchronized void invalidate(Long id, String... codes) {
+        generation.incrementAndGet();
+        if (id != null) {
+            remove(byId.get(id));
+        }
+        for (String code : codes) {
+            if (code != null) {
+                remove(byCode.get(code));
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        generation.incrementAndGet();
+        byId.clear();
+        byCode.clear();
+    }
+
+    public synchronized ProductCacheStatsResponse getStats() {
+        return new ProductCacheStatsResponse(
+            enabled,
+            byId.size(),
+            maxSize,
+            hits.sum(),
+            misses.sum(),
+            evictions.sum()
+        );
+    }
+
+    void onProductChanged(@Observes(during = TransactionPhase.AFTER_COMPLETION) ProductChangedEvent event) {
+        invalidate(event.getProductId(), event.getPreviousCode(), event.getCode());
+    }
+
+    private <K> ProductResponse lookup(Map<K, Entry> map, K key, Function<K, ProductResponse> loader) {
+        if (!enabled) {
+            return loader.apply(key);
+        }
+
+        Entry cached;
+        synchronized (this) {
+            cached = map.get(key);
+            if (cached != null && cached.isExpired(System.nanoTime())) {
+                remove(cached);
+                evictions.increment();
+                cached = null;
+            } else if (cached != null) {
+                // Marks the entry as recently used whichever index found it.
+                byId.get(cached.product.getId());
+            }
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached.product;
+        }
+
+        misses.increment();
+        long observedGeneration = generation.get();
+        ProductResponse product = loader.apply(key);
+        put(product, observedGeneration);
+        return product;
+    }
+
+    private synchronized void put(ProductResponse product, long observedGeneration) {
+        if (generation.get() != observedGeneration) {
+            return;
+        }
+        Entry entry = new Entry(product, System.nanoTime() + ttl.toNanos());
+        remove(byId.get(product.getId()));
+        remove(byCode.get(product.getCode()));
+        byId.put(product.getId(), entry);
+        byCode.put(product.getCode(), entry);
+    }
+
+    private void remove(Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        byId.remove(entry.product.getId(), entry);
+        byCode.remove(entry.product.getCode(), entry);
+    }
+
+    private static final class Entry {
+
+        private final ProductResponse product;
+        private final long expiresAt;
+
+        private Entry(ProductResponse product, long expiresAt) {
+            this.product = product;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt > 0;
+        }
+    }
+
+    private final class BoundedMap extends LinkedHashMap<Long, Entry> {
+
+        private BoundedMap() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            if (size() > maxSize) {
+                byCode.remove(eldest.getValue().product.getCode(), eldest.getValue());
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
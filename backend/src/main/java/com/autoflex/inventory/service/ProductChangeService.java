@@ -0,0 +1,351 @@
+package com.autoflex.inventory.service;
+
+import com.autoflex.inventory.dto.ProductChangeFeedResponse;
+import com.autoflex.inventory.dto.ProductChangeResponse;
+import com.autoflex.inventory.entity.Product;
+import com.autoflex.inventory.entity.ProductChange;
+import com.autoflex.inventory.event.ProductChangedEvent;
+import com.autoflex.inventory.exception.ChangeCursorExpiredException;
+import com.autoflex.inventory.repository.ProductChangeRepository;
+import com.autoflex.inventory.repository.ProductRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Records a {@code product_change} row for every product write and serves them as a change feed. The changes of a
+ * transaction are collected while it runs and inserted with one statement just before it completes, so bulk writes
+ * and imports do not pay one insert per product. Rows older than {@code inventory.products.changes.retention},
+ * tombstones included, are pruned; a cursor whose change was pruned is rejected with
+ * {@link ChangeCursorExpiredException}, and its client has to resync from a full read.
+ */
+@ApplicationScoped
+public class ProductChangeService {
+
+    private static final Logger LOG = Logger.getLogger(ProductChangeService.class);
+
+    @Inject
+    ProductChangeRepository productChangeRepository;
+
+    @Inject
+    ProductRepository productRepository;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionRegistry;
+
+    @ConfigProperty(name = "inventory.products.changes.default-limit", defaultValue = "100")
+    int defaultLimit;
+
+    @ConfigProperty(name = "inventory.products.changes.max-limit", defaultValue = "1000")
+    int maxLimit;
+
+    @ConfigProperty(name = "inventory.products.changes.stream-workers", defaultValue = "4")
+    int streamWorkers;
+
+    @ConfigProperty(name = "inventory.products.changes.retention", defaultValue = "30d")
+    Duration retention;
+
+    @ConfigProperty(name = "inventory.products.changes.prune-batch-size", defaultValue = "10000")
+    int pruneBatchSize;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean pollQueued = new AtomicBoolean();
+    private ExecutorService workers;
+
+    @PostConstruct
+    void init() {
+        workers = Executors.newFixedThreadPool(streamWorkers);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    void recordChange(@Observes(during = TransactionPhase.IN_PROGRESS) ProductChangedEvent event) {
+        // Writes outside a JTA transaction (the reactive API) record their change rows themselves.
+        if (!QuarkusTransaction.isActive()) {
+            return;
+        }
+        String code = event.getType() == ProductChangedEvent.Type.DELETED ? event.getPreviousCode() : event.getCode();
+        Pending pending = (Pending) transactionRegistry.getResource(Pending.class);
+        if (pending == null) {
+            pending = new Pending();
+            transactionRegistry.putResource(Pending.class, pending);
+        }
+        pending.changes.add(new ProductChange(event.getProductId(), code, event.getType()));
+    }
+
+    // Called once per event fired in the transaction; the first call inserts all of the transaction's changes.
+    void writeChanges(@Observes(during = TransactionPhase.BEFORE_COMPLETION) ProductChangedEvent event) {
+        // Outside a transaction CDI calls this observer right away; the reactive API has recorded the change itself.
+        if (!QuarkusTransaction.isActive()) {
+            return;
+        }
+        Pending pending = (Pending) transactionRegistry.getResource(Pending.class);
+        if (pending == null || pending.written) {
+            return;
+        }
+        pending.written = true;
+        productChangeRepository.insertAll(pending.changes);
+    }
+
+    void onProductChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) ProductChangedEvent event) {
+        if (!subscribers.isEmpty() && pollQueued.compareAndSet(false, true)) {
+            workers.execute(() -> {
+                pollQueued.set(false);
+                poll();
+            });
+        }
+    }
+
+    public ProductChangeFeedResponse getChanges(String since, Integer limit) {
+        int pageSize = limit == null ? defaultLimit : limit;
+        if (pageSize < 1 || pageSize > maxLimit) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxLimit);
+        }
+        Cursor cursor = Cursor.parse(since);
+        checkRetained(cursor);
+        return readChanges(cursor, pageSize);
+    }
+
+    public String getHeadCursor() {
+        return head().toString();
+    }
+
+    public Multi<ProductChangeResponse> streamChanges(String since) {
+        Cursor start = Cursor.parse(since);
+        QuarkusTransaction.requiringNew().run(() -> checkRetained(start));
+        return Multi.createFrom().emitter(emitter -> {
+            Subscriber subscriber = new Subscriber(emitter, start);
+            subscribers.add(subscriber);
+            emitter.onTermination(() -> subscribers.remove(subscriber));
+            subscriber.wake();
+        });
+    }
+
+    /**
+     * Deletes the changes recorded before the retention horizon, in cursor order and in batches of
+     * {@code prune-batch-size}, each in its own transaction. Returns how many were deleted.
+     */
+    public int prune() {
+        Object[] cutoff = QuarkusTransaction.requiringNew().call(() ->
+            productChangeRepository.findLastCompletedBefore(LocalDateTime.now().minus(retention)));
+        if (cutoff == null) {
+            return 0;
+        }
+        long txid = ((Number) cutoff[0]).longValue();
+        long id = ((Number) cutoff[1]).longValue();
+        int pruned = 0;
+        int deleted;
+        do {
+            deleted = QuarkusTransaction.requiringNew().call(() ->
+                productChangeRepository.deleteUpTo(txid, id, pruneBatchSize));
+            pruned += deleted;
+        } while (deleted == pruneBatchSize);
+        return pruned;
+    }
+
+    @Scheduled(every = "${inventory.products.changes.prune-interval:1h}",
+        delayed = "${inventory.products.changes.prune-interval:1h}",
+        concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void pruneQuietly() {
+        try {
+            int pruned = prune();
+            if (pruned > 0) {
+                LOG.infof("Pruned %d product changes older than %s", pruned, retention);
+            }
+        } catch (RuntimeException e) {
+            LOG.error("Failed to prune the product change feed", e);
+        }
+    }
+
+    // Every cursor the feed hands out names a change row, and changes are pruned in cursor order, so a cursor whose
+    // row is gone may have missed pruned changes, tombstones included.
+    private void checkRetained(Cursor cursor) {
+        if (cursor.compareTo(Cursor.START) != 0 && !productChangeRepository.existsById(cursor.id)) {
+            throw new ChangeCursorExpiredException("Change cursor " + cursor + " is older than the retained "
+                + "changes, resync from a full read");
+        }
+    }
+
+    private ProductChangeFeedResponse readChanges(Cursor since, int limit) {
+        List<ProductChange> changes = productChangeRepository.findCompletedAfter(since.txid, since.id, limit + 1);
+        boolean hasMore = changes.size() > limit;
+        if (hasMore) {
+            changes = changes.subList(0, limit);
+        }
+        if (changes.isEmpty()) {
+            return new ProductChangeFeedResponse(List.of(), since.toString(), false);
+        }
+
+        // Only the latest change per product matters to a client syncing state, so earlier ones are folded into it.
+        Map<Long, ProductChange> latest = new LinkedHashMap<>();
+        for (ProductChange change : changes) {
+            latest.remove(change.productId);
+            latest.put(change.productId, change);
+        }
+
+        List<Long> liveIds = latest.values().stream()
+            .filter(change -> change.type != ProductChangedEvent.Type.DELETED)
+            .map(change -> change.productId)
+            .collect(Collectors.toList());
+        Map<Long, Product> products = liveIds.isEmpty()
+            ? Map.of()
+            : productRepository.list("id in ?1", liveIds).stream()
+                .collect(Collectors.toMap(product -> product.id, Function.identity()));
+
+        List<ProductChangeResponse> items = new ArrayList<>(latest.size());
+        for (ProductChange change : latest.values()) {
+            String cursor = new Cursor(change.txid, change.id).toString();
+            if (change.type == ProductChangedEvent.Type.DELETED) {
+                items.add(new ProductChangeResponse(cursor, change.type, change.productId, change.code, true,
+                    change.changedAt, null));
+                continue;
+            }
+            Product product = products.get(change.productId);
+            // A product missing here was deleted by a later change, whose tombstone is still ahead in the feed.
+            if (product != null) {
+                items.add(new ProductChangeResponse(cursor, change.type, change.productId, product.code, false,
+                    change.changedAt, ProductService.toResponse(product)));
+            }
+        }
+
+        ProductChange last = changes.get(changes.size() - 1);
+        return new ProductChangeFeedResponse(items, new Cursor(last.txid, last.id).toString(), hasMore);
+    }
+
+    private Cursor head() {
+        Object[] row = productChangeRepository.findLastCompleted();
+        return row == null ? Cursor.START : new Cursor(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+    }
+
+    @Scheduled(every = "${inventory.products.changes.poll-interval:1s}",
+        concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void poll() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            Cursor head = QuarkusTransaction.requiringNew().call(this::head);
+            for (Subscriber subscriber : subscribers) {
+                if (head.compareTo(subscriber.cursor) > 0) {
+                    subscriber.wake();
+                }
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to poll the product change feed", e);
+        }
+    }
+
+    private static final class Pending {
+
+        private final List<ProductChange> changes = new ArrayList<>();
+        private boolean written;
+    }
+
+    private final class Subscriber {
+
+        private final MultiEmitter<? super ProductChangeResponse> emitter;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean pending = new AtomicBoolean();
+        private volatile Cursor cursor;
+
+        private Subscriber(MultiEmitter<? super ProductChangeResponse> emitter, Cursor cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+
+        void wake() {
+            pending.set(true);
+            if (draining.compareAndSet(false, true)) {
+                workers.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                while (pending.getAndSet(false) && !emitter.isCancelled()) {
+                    ProductChangeFeedResponse page;
+                    do {
+                        page = QuarkusTransaction.requiringNew().call(() -> readChanges(cursor, maxLimit));
+                        page.getItems().forEach(emitter::emit);
+                        cursor = Cursor.parse(page.getNextCursor());
+                    } while (page.isHasMore() && !emitter.isCancelled());
+                }
+            } catch (RuntimeException e) {
+                emitter.fail(e);
+            } finally {
+                draining.set(false);
+            }
+            // A wake-up that arrived after the loop checked for one but before draining was cleared.
+            if (pending.get() && !emitter.isCancelled() && draining.compareAndSet(false, true)) {
+                workers.execute(this::drain);
+            }
+        }
+    }
+
+    static final class Cursor implements Comparable<Cursor> {
+
+        static final Cursor START = new Cursor(0, 0);
+
+        final long txid;
+        final long id;
+
+        Cursor(long txid, long id) {
+            this.txid = txid;
+            this.id = id;
+        }
+
+        static Cursor parse(String value) {
+            if (value == null || value.isBlank()) {
+                return START;
+            }
+            int separator = value.indexOf('-');
+            try {
+                if (separator > 0) {
+                    return new Cursor(Long.parseLong(value.substring(0, separator)),
+                        Long.parseLong(value.substring(separator + 1)));
+                }
+            } catch (NumberFormatException e) {
+                // fall through to the error below
+            }
+            throw new IllegalArgumentException("Invalid change cursor: " + value);
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            int result = Long.compare(txid, other.txid);
+            return result != 0 ? result : Long.compare(id, other.id);
+        }
+
+        @Override
+        public String toString() {
+            return txid + "-" + id;
+        }
+    }
+}
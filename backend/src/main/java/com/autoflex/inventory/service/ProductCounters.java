@@ -0,0 +1,124 @@
+package com.autoflex.inventory.service;
+
+import com.autoflex.inventory.event.ProductChangedEvent;
+import com.autoflex.inventory.repository.ProductStatsCounterRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Keeps the product count and total value in {@code product_stats_counter}, adjusted by every product write in its
+ * own transaction, so reading them does not scan the catalog. The deltas of all writes in a transaction are added up
+ * and written with one upsert just before it completes, so bulk writes and imports pay one statement, not one per
+ * product. Each of these upserts also counts one catalog change, which versions the catalog for ETags. A periodic
+ * reconciliation compares both with the product table in one snapshot and adds any drift, e.g. from writes that
+ * bypassed the services, as a correcting delta, without holding writers off.
+ */
+@ApplicationScoped
+public class ProductCounters {
+
+    private static final Logger LOG = Logger.getLogger(ProductCounters.class);
+
+    @Inject
+    ProductStatsCounterRepository counterRepository;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionRegistry;
+
+    @ConfigProperty(name = "inventory.products.stats.counter-slots", defaultValue = "16")
+    int slots;
+
+    void onStart(@Observes StartupEvent event) {
+        // The app starts even if the database is briefly unavailable; the scheduled run retries.
+        reconcileQuietly();
+    }
+
+    void onProductChanged(@Observes(during = TransactionPhase.IN_PROGRESS) ProductChangedEvent event) {
+        // Writes outside a JTA transaction (the reactive API) adjust the counters themselves.
+        if (!QuarkusTransaction.isActive()) {
+            return;
+        }
+        Delta delta = (Delta) transactionRegistry.getResource(Delta.class);
+        if (delta == null) {
+            delta = new Delta();
+            transactionRegistry.putResource(Delta.class, delta);
+        }
+        delta.count += (event.getValue() != null ? 1 : 0) - (event.getPreviousValue() != null ? 1 : 0);
+        delta.value = delta.value.add(orZero(event.getValue())).subtract(orZero(event.getPreviousValue()));
+    }
+
+    // Called once per event fired in the transaction; the first call writes the transaction's total. It is written
+    // even when both deltas are zero, e.g. for a rename, since it also bumps the change count the catalog ETag uses.
+    void writeDelta(@Observes(during = TransactionPhase.BEFORE_COMPLETION) ProductChangedEvent event) {
+        // Outside a transaction CDI calls this observer right away, and there is no transaction to hold a delta.
+        if (!QuarkusTransaction.isActive()) {
+            return;
+        }
+        Delta delta = (Delta) transactionRegistry.getResource(Delta.class);
+        if (delta == null || delta.written) {
+            return;
+        }
+        delta.written = true;
+        counterRepository.add(nextSlot(), delta.count, delta.value);
+    }
+
+    public int nextSlot() {
+        return ThreadLocalRandom.current().nextInt(slots);
+    }
+
+    public long getCount() {
+        return ((Number) counterRepository.totals()[0]).longValue();
+    }
+
+    public BigDecimal getTotalValue() {
+        return (BigDecimal) counterRepository.totals()[1];
+    }
+
+    public void reconcile() {
+        Object[] drift = QuarkusTransaction.requiringNew().call(counterRepository::drift);
+        long countDrift = ((Number) drift[0]).longValue();
+        BigDecimal valueDrift = (BigDecimal) drift[1];
+        boolean drifted = countDrift != 0 || valueDrift.signum() != 0;
+        if (drifted) {
+            // Applied as a delta, so writes that committed since the snapshot are kept.
+            QuarkusTransaction.requiringNew().run(() -> counterRepository.add(nextSlot(), countDrift, valueDrift));
+            LOG.warnf("Product counters drifted by %d products and %s total value, corrected", countDrift, valueDrift);
+        }
+        meterRegistry.counter("inventory.stats.reconciliations", "result", drifted ? "drift" : "clean").increment();
+    }
+
+    @Scheduled(every = "${inventory.products.stats.reconcile-interval:5m}",
+        delayed = "${inventory.products.stats.reconcile-interval:5m}",
+        concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            LOG.error("Product counter reconciliation failed", e);
+        }
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value == null ? BigDecimal.ZERO : value;
+    }
+
+    private static final class Delta {
+
+        private long count;
+        private BigDecimal value = BigDecimal.ZERO;
+        private boolean written;
+    }
+}
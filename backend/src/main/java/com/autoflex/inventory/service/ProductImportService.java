@@ -0,0 +1,346 @@
+package com.autoflex.inventory.service;
+
+import com.autoflex.inventory.dto.ProductImportResponse;
+import com.autoflex.inventory.dto.ProductImportRowResult;
+import com.autoflex.inventory.dto.ProductRequest;
+import com.autoflex.inventory.entity.Product;
+import com.autoflex.inventory.event.ProductChangedEvent;
+import com.autoflex.inventory.repository.ProductRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.exception.ConstraintViolationException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+public class ProductImportService {
+
+    public static final String NDJSON = "application/x-ndjson";
+    public static final String CSV = "text/csv";
+
+    @Inject
+    ProductRepository productRepository;
+
+    @Inject
+    Validator validator;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    Event<ProductChangedEvent> productChanged;
+
+    @ConfigProperty(name = "inventory.products.import.chunk-size", defaultValue = "1000")
+    int chunkSize;
+
+    public ProductImportResponse importJsonArray(InputStream input) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Import body must be a JSON array of products");
+            }
+            return importRows(() -> {
+                JsonToken token = parser.nextToken();
+                if (token == null || token == JsonToken.END_ARRAY) {
+                    return null;
+                }
+                return readJsonRow(parser.readValueAsTree());
+            });
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed JSON import: " + e.getMessage());
+        }
+    }
+
+    public ProductImportResponse importNdjson(InputStream input) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            return importRows(() -> {
+                String line;
+                do {
+                    line = reader.readLine();
+                } while (line != null && line.isBlank());
+                if (line == null) {
+                    return null;
+                }
+                try {
+                    return readJsonRow(objectMapper.readTree(line));
+                } catch (JsonProcessingException e) {
+                    return ImportRow.failed(null, "Malformed JSON line: " + e.getOriginalMessage());
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public ProductImportResponse importCsv(InputStream input) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String header = reader.readLine();
+            if (header == null) {
+                return new ProductImportResponse();
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            List<String> names = parseCsvLine(header);
+            for (int i = 0; i < names.size(); i++) {
+                columns.put(names.get(i).trim().toLowerCase(), i);
+            }
+            for (String column : List.of("code", "name", "value")) {
+                if (!columns.containsKey(column)) {
+                    throw new IllegalArgumentException("CSV header must contain the column: " + column);
+                }
+            }
+
+            return importRows(() -> {
+                String line;
+                do {
+                    line = reader.readLine();
+                } while (line != null && line.isBlank());
+                if (line == null) {
+                    return null;
+                }
+                return readCsvRow(parseCsvLine(line), columns);
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ProductImportResponse importRows(RowSource source) throws IOException {
+        ProductImportResponse response = new ProductImportResponse();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        int rowNumber = 0;
+        while (true) {
+            ImportRow row;
+            try {
+                row = source.next();
+            } catch (JsonProcessingException e) {
+                // The rest of the body cannot be parsed, but the chunks before it are committed: report both.
+                if (!chunk.isEmpty()) {
+                    importChunk(chunk, response);
+                }
+                response.addRow(ProductImportRowResult.failed(rowNumber + 1, null,
+                    "Malformed JSON, this and any later rows were not imported: " + e.getOriginalMessage()));
+                response.setComplete(false);
+                return response;
+            }
+            if (row == null) {
+                break;
+            }
+            row.number = ++rowNumber;
+            chunk.add(row);
+            if (chunk.size() >= chunkSize) {
+                importChunk(chunk, response);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, response);
+        }
+        return response;
+    }
+
+    private void importChunk(List<ImportRow> chunk, ProductImportResponse response) {
+        Map<ImportRow, ProductImportRowResult> results = new HashMap<>();
+        Set<String> codes = new HashSet<>();
+        List<ImportRow> candidates = new ArrayList<>();
+
+        for (ImportRow row : chunk) {
+            String error = row.error != null ? row.error : validate(row.request);
+            if (error != null) {
+                results.put(row, ProductImportRowResult.failed(row.number, row.code(), error));
+            } else if (!codes.add(row.request.getCode())) {
+                results.put(row, ProductImportRowResult.failed(row.number, row.code(),
+                    "Duplicate product code in import: " + row.code()));
+            } else {
+                candidates.add(row);
+            }
+        }
+
+        Set<String> existingCodes = codes.isEmpty() ? Set.of() : productRepository.findExistingCodes(codes);
+        List<ImportRow> inserts = new ArrayList<>();
+        for (ImportRow row : candidates) {
+            if (existingCodes.contains(row.code())) {
+                results.put(row, ProductImportRowResult.failed(row.number, row.code(),
+                    "Product code already exists: " + row.code()));
+            } else {
+                inserts.add(row);
+            }
+        }
+
+        if (!inserts.isEmpty()) {
+            try {
+                List<Product> products = QuarkusTransaction.requiringNew().call(() -> insert(inserts));
+                for (int i = 0; i < inserts.size(); i++) {
+                    ImportRow row = inserts.get(i);
+                    results.put(row, ProductImportRowResult.imported(row.number, row.code(), products.get(i).id));
+                }
+            } catch (RuntimeException batchFailure) {
+                for (ImportRow row : inserts) {
+                    results.put(row, insertSingle(row));
+                }
+            }
+        }
+
+        for (ImportRow row : chunk) {
+            response.addRow(results.get(row));
+        }
+    }
+
+    private ProductImportRowResult insertSingle(ImportRow row) {
+        try {
+            Product product = QuarkusTransaction.requiringNew().call(() -> insert(List.of(row))).get(0);
+            return ProductImportRowResult.imported(row.number, row.code(), product.id);
+        } catch (RuntimeException e) {
+            String message = isConstraintViolation(e)
+                ? "Product code already exists: " + row.code()
+                : "Failed to import product: " + e.getMessage();
+            return ProductImportRowResult.failed(row.number, row.code(), message);
+        }
+    }
+
+    private List<Product> insert(List<ImportRow> rows) {
+        List<Product> products = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            Product product = new Product(row.request.getCode(), row.request.getName(), row.request.getValue());
+            productRepository.persist(product);
+            products.add(product);
+        }
+        productRepository.flush();
+        for (Product product : products) {
+            productChanged.fire(ProductChangedEvent.created(product.id, product.code, product.value));
+        }
+        return products;
+    }
+
+    private String validate(ProductRequest request) {
+        Set<ConstraintViolation<ProductRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(ConstraintViolation::getMessage)
+            .sorted()
+            .collect(Collectors.joining("; "));
+    }
+
+    private ImportRow readJsonRow(JsonNode node) {
+        String code = node != null && node.hasNonNull("code") ? node.get("code").asText() : null;
+        try {
+            return ImportRow.parsed(objectMapper.treeToValue(node, ProductRequest.class));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return ImportRow.failed(code, "Invalid product: " + e.getMessage());
+        }
+    }
+
+    private ImportRow readCsvRow(List<String> fields, Map<String, Integer> columns) {
+        String code = field(fields, columns.get("code"));
+        ProductRequest request = new ProductRequest();
+        request.setCode(code);
+        request.setName(field(fields, columns.get("name")));
+        String value = field(fields, columns.get("value"));
+        if (value != null) {
+            try {
+                request.setValue(new BigDecimal(value));
+            } catch (NumberFormatException e) {
+                return ImportRow.failed(code, "Invalid product value: " + value);
+            }
+        }
+        return ImportRow.parsed(request);
+    }
+
+    private static String field(List<String> fields, int index) {
+        if (index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private static boolean isConstraintViolation(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private interface RowSource {
+        ImportRow next() throws IOException;
+    }
+
+    private static final class ImportRow {
+
+        private int number;
+        private final ProductRequest request;
+        private final String failedCode;
+        private final String error;
+
+        private ImportRow(ProductRequest request, String failedCode, String error) {
+            this.request = request;
+            this.failedCode = failedCode;
+            this.error = error;
+        }
+
+        private static ImportRow parsed(ProductRequest request) {
+            return new ImportRow(request, null, null);
+        }
+
+        private static ImportRow failed(String code, String error) {
+            return new ImportRow(null, code, error);
+        }
+
+        private String code() {
+            return request != null ? request.getCode() : failedCode;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.autoflex.inventory.service;
+
+import com.autoflex.inventory.dto.ProductMaterialRequest;
+import com.autoflex.inventory.dto.ProductMaterialResponse;
+import com.autoflex.inventory.entity.Product;
+import com.autoflex.inventory.entity.ProductMaterial;
+import com.autoflex.inventory.entity.RawMaterial;
+import com.autoflex.inventory.event.BillOfMaterialsChangedEvent;
+import com.autoflex.inventory.exception.ResourceNotFoundException;
+import com.autoflex.inventory.repository.ProductMaterialRepository;
+import com.autoflex.inventory.repository.ProductRepository;
+import com.autoflex.inventory.repository.RawMaterialRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+public class ProductMaterialService {
+
+    @Inject
+    ProductMaterialRepository productMaterialRepository;
+
+    @Inject
+    ProductRepository productRepository;
+
+    @Inject
+    RawMaterialRepository rawMaterialRepository;
+
+    @Inject
+    Event<BillOfMaterialsChangedEvent> billOfMaterialsChanged;
+
+    private ProductMaterialResponse toResponse(ProductMaterial link) {
+        return new ProductMaterialResponse(
+            link.id,
+            link.product.id,
+            link.material.id,
+            link.material.code,
+            link.material.name,
+            link.requiredQuantity
+        );
+    }
+
+    private Product findProduct(Long productId) {
+        Product product = productRepository.findById(productId);
+        if (product == null) {
+            throw new ResourceNotFoundException("Product not found with id: " + productId);
+        }
+        return product;
+    }
+
+    private ProductMaterial findLink(Long productId, Long materialId) {
+        ProductMaterial link = productMaterialRepository.findByProductIdAndMaterialId(productId, materialId);
+        if (link == null) {
+            throw new ResourceNotFoundException(
+                "Raw material " + materialId + " is not part of product " + productId);
+        }
+        return link;
+    }
+
+    public List<ProductMaterialResponse> getProductMaterials(Long productId) {
+        findProduct(productId);
+        return productMaterialRepository.findByProductId(productId)
+            .stream()
+            .map(this::toResponse)
+            .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public ProductMaterialResponse addProductMaterial(Long productId, @Valid ProductMaterialRequest request) {
+        Product product = findProduct(productId);
+        RawMaterial material = rawMaterialRepository.findById(request.getMaterialId());
+        if (material == null) {
+            throw new ResourceNotFoundException("Raw material not found with id: " + request.getMaterialId());
+        }
+        if (productMaterialRepository.findByProductIdAndMaterialId(productId, material.id) != null) {
+            throw new IllegalArgumentException(
+                "Raw material " + material.code + " is already part of product " + product.code);
+        }
+
+        ProductMaterial link = new ProductMaterial(product, material, request.getRequiredQuantity());
+        productMaterialRepository.persist(link);
+        billOfMaterialsChanged.fire(new BillOfMaterialsChangedEvent(productId));
+        return toResponse(link);
+    }
+
+    @Transactional
+    public ProductMaterialResponse updateProductMaterial(Long productId, Long materialId,
+                                                         @Valid ProductMaterialRequest request) {
+        ProductMaterial link = findLink(productId, materialId);
+        if (!link.material.id.equals(request.getMaterialId())) {
+            throw new IllegalArgumentException("Raw material ID in the body must match the path");
+        }
+        link.requiredQuantity = request.getRequiredQuantity();
+        billOfMaterialsChanged.fire(new BillOfMaterialsChangedEvent(productId));
+        return toResponse(link);
+    }
+
+    @Transactional
+    public void removeProductMaterial(Long productId, Long materialId) {
+        ProductMaterial link = findLink(productId, materialId);
+        productMaterialRepository.delete(link);
+        billOfMaterialsChanged.fire(new BillOfMaterialsChangedEvent(productId));
+    }
+}
@@ -1,36 +1,115 @@
 package com.autoflex.inventory.service;
 
+import com.autoflex.inventory.dto.BulkOperationResponse;
+import com.autoflex.inventory.dto.ProductBulkDeleteRequest;
+import com.autoflex.inventory.dto.ProductBulkUpdateRequest;
+import com.autoflex.inventory.dto.ProductPage;
+import com.autoflex.inventory.dto.ProductPatchRequest;
+import com.autoflex.inventory.dto.ProductQuery;
+import com.autoflex.inventory.dto.ProductQueryPage;
 import com.autoflex.inventory.dto.ProductRequest;
 import com.autoflex.inventory.dto.ProductResponse;
+import com.autoflex.inventory.dto.ProductUpsertResult;
+import com.autoflex.inventory.dto.ResourceVersion;
 import com.autoflex.inventory.entity.Product;
+import com.autoflex.inventory.event.ProductChangedEvent;
+import com.autoflex.inventory.exception.PreconditionFailedException;
 import com.autoflex.inventory.exception.ResourceNotFoundException;
+import com.autoflex.inventory.repository.ProductProjection;
 import com.autoflex.inventory.repository.ProductRepository;
+import com.autoflex.inventory.repository.ProductStatsCounterRepository;
+import com.autoflex.inventory.repository.ProductSort;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
 import jakarta.inject.Inject;
+import jakarta.persistence.OptimisticLockException;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @ApplicationScoped
+@Timed("inventory.service")
 public class ProductService {
 
     @Inject
     ProductRepository productRepository;
-    
-    private ProductResponse toResponse(Product product) {
+
+    @Inject
+    ProductStatsCounterRepository counterRepository;
+
+    @Inject
+    ProductCache productCache;
+
+    @Inject
+    ProductCounters productCounters;
+
+    @Inject
+    Event<ProductChangedEvent> productChanged;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "inventory.products.page.default-size", defaultValue = "100")
+    int defaultPageSize;
+
+    @ConfigProperty(name = "inventory.products.page.max-size", defaultValue = "1000")
+    int maxPageSize;
+
+    @ConfigProperty(name = "inventory.products.stream.fetch-size", defaultValue = "500")
+    int streamFetchSize;
+
+    @ConfigProperty(name = "inventory.products.search.default-limit", defaultValue = "20")
+    int defaultSearchLimit;
+
+    @ConfigProperty(name = "inventory.products.search.max-limit", defaultValue = "100")
+    int maxSearchLimit;
+
+    @ConfigProperty(name = "inventory.products.write.max-retries", defaultValue = "3")
+    int maxWriteRetries;
+
+    private SingleFlight<Long, ProductResponse> byIdFlight;
+    private SingleFlight<String, ProductResponse> byCodeFlight;
+    private SingleFlight<String, Long> countFlight;
+
+    @PostConstruct
+    void init() {
+        byIdFlight = new SingleFlight<>(meterRegistry, "product.by-id");
+        byCodeFlight = new SingleFlight<>(meterRegistry, "product.by-code");
+        countFlight = new SingleFlight<>(meterRegistry, "product.count");
+    }
+
+    void onProductChanged(@Observes(during = TransactionPhase.AFTER_COMPLETION) ProductChangedEvent event) {
+        byIdFlight.forget(event.getProductId());
+        byCodeFlight.forget(event.getPreviousCode());
+        byCodeFlight.forget(event.getCode());
+        countFlight.forgetAll();
+    }
+
+    public static ProductResponse toResponse(Product product) {
         return new ProductResponse(
             product.id,
             product.code,
             product.name,
             product.value,
             product.createdAt,
-            product.updatedAt
+            product.updatedAt,
+            product.version
         );
     }
 
-    private Product toEntity(ProductRequest request) {
+    public static Product toEntity(ProductRequest request) {
         Product product = new Product();
         product.code = request.getCode();
         product.name = request.getName();
@@ -38,88 +117,348 @@ public class ProductService {
         return product;
     }
 
-    public List<ProductResponse> getAllProducts() {
-        return productRepository.listAll()
-            .stream()
-            .map(this::toResponse)
-            .collect(Collectors.toList());
+    public ProductPage getProductsPage(Long after, Integer limit) {
+        int pageSize = limit == null ? defaultPageSize : limit;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxPageSize);
+        }
+
+        List<ProductResponse> items = productRepository.findPageAfter(ProductProjection.RESPONSE,
+            after == null ? 0L : after, pageSize + 1);
+        Long nextCursor = null;
+        if (items.size() > pageSize) {
+            items = items.subList(0, pageSize);
+            nextCursor = items.get(pageSize - 1).getId();
+        }
+        return new ProductPage(items, nextCursor);
+    }
+
+    public ProductQueryPage queryProducts(ProductProjection<?> projection, ProductQuery query) {
+        int pageSize = query.getLimit() == null ? defaultPageSize : query.getLimit();
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxPageSize);
+        }
+        return productRepository.query(projection, query, ProductSort.parse(query.getSort()), pageSize);
+    }
+
+    public void streamAllProducts(Consumer<ProductResponse> consumer) {
+        QuarkusTransaction.requiringNew().run(() ->
+            productRepository.scrollAll(streamFetchSize, product -> consumer.accept(toResponse(product))));
     }
 
     public ProductResponse getProductById(Long id) {
-        Product product = productRepository.findById(id);
+        return productCache.getById(id, key -> byIdFlight.run(key, () -> loadProductById(key)));
+    }
+
+    public ProductResponse getProductByCode(String code) {
+        return productCache.getByCode(code, key -> byCodeFlight.run(key, () -> loadProductByCode(key)));
+    }
+
+    public ResourceVersion getProductVersion(Long id) {
+        Object[] row = productRepository.findVersionById(id);
+        if (row == null) {
+            throw new ResourceNotFoundException("Product not found with id: " + id);
+        }
+        return productVersion(id, (Long) row[0], (LocalDateTime) row[1]);
+    }
+
+    public ResourceVersion getProductVersionByCode(String code) {
+        Object[] row = productRepository.findVersionByCode(code);
+        if (row == null) {
+            throw new ResourceNotFoundException("Product not found with code: " + code);
+        }
+        return productVersion((Long) row[0], (Long) row[1], (LocalDateTime) row[2]);
+    }
+
+    /**
+     * Versions the whole catalog from the product counters: every transaction that writes products bumps their change
+     * count in the same commit, so the ETag changes exactly when the catalog does, without scanning the product table.
+     * There is no Last-Modified, since the counters do not keep a time.
+     */
+    public ResourceVersion getCatalogVersion() {
+        Object[] row = counterRepository.catalogVersion();
+        long count = ((Number) row[0]).longValue();
+        long changes = ((Number) row[1]).longValue();
+        return new ResourceVersion("c" + Long.toHexString(count) + "-" + Long.toHexString(changes), null);
+    }
+
+    public static ResourceVersion productVersion(ProductResponse product) {
+        return productVersion(product.getId(), product.getVersion(),
+            product.getUpdatedAt() != null ? product.getUpdatedAt() : product.getCreatedAt());
+    }
+
+    private static ResourceVersion productVersion(Long id, long version, LocalDateTime updatedAt) {
+        return new ResourceVersion("p" + Long.toHexString(id) + "-v" + Long.toHexString(version), updatedAt);
+    }
+
+    /**
+     * Returns the product version an ETag from {@link #productVersion} names, or null if it names another product
+     * or is not a product ETag. Format suffixes such as {@code -cbor} are ignored: every format of a version is the
+     * same state for a write to be based on.
+     */
+    public static Long versionFromEtag(Long id, String etag) {
+        String prefix = "p" + Long.toHexString(id) + "-v";
+        if (!etag.startsWith(prefix)) {
+            return null;
+        }
+        int end = etag.indexOf('-', prefix.length());
+        try {
+            return Long.parseLong(etag.substring(prefix.length(), end < 0 ? etag.length() : end), 16);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private ProductResponse loadProductById(Long id) {
+        ProductResponse product = productRepository.findResponseById(id);
         if (product == null) {
             throw new ResourceNotFoundException("Product not found with id: " + id);
         }
-        return toResponse(product);
+        return product;
     }
 
-    public ProductResponse getProductByCode(String code) {
-        Product product = Product.findByCode(code);
+    private ProductResponse loadProductByCode(String code) {
+        ProductResponse product = productRepository.findResponseByCode(code);
         if (product == null) {
             throw new ResourceNotFoundException("Product not found with code: " + code);
         }
-        return toResponse(product);
+        return product;
     }
 
     @Transactional
     public ProductResponse createProduct(@Valid ProductRequest request) {
-        if (Product.existsByCode(request.getCode())) {
-            throw new IllegalArgumentException("Product code already exists: " + request.getCode());
+        return applyCreate(request);
+    }
+
+    public ProductResponse updateProduct(Long id, @Valid ProductRequest request) {
+        return updateProduct(id, request, null);
+    }
+
+    /**
+     * Replaces the product. With an {@code expectedVersion} (from If-Match) the update fails with
+     * {@link PreconditionFailedException} unless the product is still at that version. Without one, an update that
+     * lost a race with a concurrent write is retried from a fresh read, since replacing every field is idempotent.
+     */
+    public ProductResponse updateProduct(Long id, @Valid ProductRequest request, Long expectedVersion) {
+        return retryOnConflict(() -> applyUpdate(id, request, expectedVersion));
+    }
+
+    /**
+     * Applies a JSON Merge Patch with one {@code UPDATE ... RETURNING}, without reading the product first. The update
+     * locks the row, so it cannot lose a concurrent write and needs no retry.
+     */
+    @Transactional
+    public ProductResponse patchProduct(Long id, @Valid ProductPatchRequest request, Long expectedVersion) {
+        return applyPatch(id, request, expectedVersion);
+    }
+
+    /**
+     * Creates the product with this code, or replaces the existing one, with one {@code INSERT ... ON CONFLICT}. A
+     * product created concurrently between the lookup of its previous value and the insert is retried.
+     */
+    public ProductUpsertResult upsertProduct(String code, @Valid ProductRequest request) {
+        return retryOnConflict(() -> applyUpsert(code, request));
+    }
+
+    public void deleteProduct(Long id) {
+        deleteProduct(id, null);
+    }
+
+    public void deleteProduct(Long id, Long expectedVersion) {
+        retryOnConflict(() -> {
+            applyDelete(id, expectedVersion);
+            return null;
+        });
+    }
+
+    <T> T retryOnConflict(Supplier<T> write) {
+        // Inside the caller's transaction a conflict can only be retried by the caller.
+        if (QuarkusTransaction.isActive()) {
+            return write.get();
         }
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return QuarkusTransaction.requiringNew().call(write::get);
+            } catch (OptimisticLockException e) {
+                if (attempt >= maxWriteRetries) {
+                    throw e;
+                }
+            }
+        }
+    }
 
+    // The apply methods run in the caller's transaction. Business rejections (unknown ID, stale If-Match) are thrown
+    // before changing anything, so a batch of writes (ProductWritePipeline) can skip them and still commit the others.
+    // A duplicate code is left to the unique constraint on product.code and a version conflict to the version check;
+    // both are only found when the change is flushed and fail the whole transaction.
+    ProductResponse applyCreate(ProductRequest request) {
         Product product = toEntity(request);
         productRepository.persist(product);
+        productRepository.flush();
+        productChanged.fire(ProductChangedEvent.created(product.id, product.code, product.value));
         return toResponse(product);
     }
 
-    @Transactional
-    public ProductResponse updateProduct(Long id, @Valid ProductRequest request) {
+    ProductResponse applyUpdate(Long id, ProductRequest request, Long expectedVersion) {
         Product product = productRepository.findById(id);
         if (product == null) {
             throw new ResourceNotFoundException("Product not found with id: " + id);
         }
+        checkVersion(product, expectedVersion);
 
-        if (!product.code.equals(request.getCode()) && 
-            productRepository.existsByCodeAndIdNot(request.getCode(), id)) {
-            throw new IllegalArgumentException("Product code already exists: " + request.getCode());
-        }
-
+        String previousCode = product.code;
+        BigDecimal previousValue = product.value;
         product.code = request.getCode();
         product.name = request.getName();
         product.value = request.getValue();
 
-        productRepository.persist(product);
+        flushChecked(product, expectedVersion);
+        productChanged.fire(ProductChangedEvent.updated(product.id, previousCode, product.code,
+            previousValue, product.value));
         return toResponse(product);
     }
 
-    @Transactional
-    public void deleteProduct(Long id) {
+    ProductResponse applyPatch(Long id, ProductPatchRequest request, Long expectedVersion) {
+        if (request.isEmpty()) {
+            ProductResponse product = loadProductById(id);
+            if (expectedVersion != null && product.getVersion() != expectedVersion.longValue()) {
+                throw new PreconditionFailedException("Product " + id + " is at version " + product.getVersion()
+                    + ", not " + expectedVersion);
+            }
+            return product;
+        }
+
+        Object[] row = productRepository.patch(id, request.getCode(), request.getName(), request.getValue(),
+            expectedVersion, LocalDateTime.now());
+        if (row == null) {
+            Object[] current = expectedVersion == null ? null : productRepository.findVersionById(id);
+            if (current != null) {
+                throw new PreconditionFailedException("Product " + id + " is at version " + current[0]
+                    + ", not " + expectedVersion);
+            }
+            throw new ResourceNotFoundException("Product not found with id: " + id);
+        }
+
+        ProductResponse product = (ProductResponse) row[0];
+        productChanged.fire(ProductChangedEvent.updated(id, (String) row[1], product.getCode(),
+            (BigDecimal) row[2], product.getValue()));
+        return product;
+    }
+
+    ProductUpsertResult applyUpsert(String code, ProductRequest request) {
+        if (!code.equals(request.getCode())) {
+            throw new IllegalArgumentException("Product code " + request.getCode() + " does not match " + code);
+        }
+
+        Object[] row = productRepository.upsert(code, request.getName(), request.getValue(), LocalDateTime.now());
+        ProductResponse product = (ProductResponse) row[0];
+        boolean created = (Boolean) row[1];
+        if (created) {
+            productChanged.fire(ProductChangedEvent.created(product.getId(), code, product.getValue()));
+        } else if (row[2] == null) {
+            // Inserted by another transaction after this one looked for it: the change event needs its old value.
+            throw new OptimisticLockException("Product " + code + " was created concurrently");
+        } else {
+            productChanged.fire(ProductChangedEvent.updated(product.getId(), code, code, (BigDecimal) row[2],
+                product.getValue()));
+        }
+        return new ProductUpsertResult(product, created);
+    }
+
+    void applyDelete(Long id, Long expectedVersion) {
         Product product = productRepository.findById(id);
         if (product == null) {
             throw new ResourceNotFoundException("Product not found with id: " + id);
         }
+        checkVersion(product, expectedVersion);
         productRepository.delete(product);
+        flushChecked(product, expectedVersion);
+        productChanged.fire(ProductChangedEvent.deleted(product.id, product.code, product.value));
+    }
+
+    private static void checkVersion(Product product, Long expectedVersion) {
+        if (expectedVersion != null && product.version != expectedVersion) {
+            throw new PreconditionFailedException("Product " + product.id + " is at version " + product.version
+                + ", not " + expectedVersion);
+        }
+    }
+
+    // Flushing here runs the version-checked UPDATE or DELETE, so a concurrent change is caught in this request and
+    // the response carries the new version.
+    private void flushChecked(Product product, Long expectedVersion) {
+        try {
+            productRepository.flush();
+        } catch (OptimisticLockException e) {
+            if (expectedVersion != null) {
+                throw new PreconditionFailedException("Product " + product.id + " was changed by another request", e);
+            }
+            throw e;
+        }
+    }
+
+    @Transactional
+    public BulkOperationResponse bulkUpdateValues(@Valid ProductBulkUpdateRequest request) {
+        List<Object[]> rows = productRepository.updateValues(
+            request.getIds(), request.getCodes(), request.getMinValue(), request.getMaxValue(),
+            request.getChangeType(), request.getAmount(), LocalDateTime.now());
+
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Long id = ((Number) row[0]).longValue();
+            String code = (String) row[1];
+            BigDecimal value = (BigDecimal) row[3];
+            if (value.signum() <= 0) {
+                throw new IllegalArgumentException("Product value must be greater than 0, change would set "
+                    + code + " to " + value);
+            }
+            ids.add(id);
+            productChanged.fire(ProductChangedEvent.updated(id, code, code, (BigDecimal) row[2], value));
+        }
+        return new BulkOperationResponse(ids);
     }
 
-    public List<ProductResponse> searchProductsByName(String name) {
-        return productRepository.findByNameContaining(name)
-            .stream()
-            .map(this::toResponse)
-            .collect(Collectors.toList());
+    @Transactional
+    public BulkOperationResponse bulkDelete(@Valid ProductBulkDeleteRequest request) {
+        List<Object[]> rows = productRepository.deleteMatching(request.getIds(), request.getCodes());
+
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Long id = ((Number) row[0]).longValue();
+            ids.add(id);
+            productChanged.fire(ProductChangedEvent.deleted(id, (String) row[1], (BigDecimal) row[2]));
+        }
+        return new BulkOperationResponse(ids);
     }
 
-    public List<ProductResponse> getProductsSortedByValueDesc() {
-        return productRepository.findAllOrderByValueDesc()
-            .stream()
-            .map(this::toResponse)
-            .collect(Collectors.toList());
+    public <T> List<T> searchProductsByName(ProductProjection<T> projection, String name, Integer limit) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Search term is required");
+        }
+        return productRepository.searchByName(projection, name.trim(), searchLimit(limit));
     }
 
-    public List<ProductResponse> getProductsByValueRange(BigDecimal minValue, BigDecimal maxValue) {
-        return productRepository.findByValueRange(minValue, maxValue)
-            .stream()
-            .map(this::toResponse)
-            .collect(Collectors.toList());
+    public <T> List<T> suggestProductsByName(ProductProjection<T> projection, String prefix, Integer limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("Search prefix is required");
+        }
+        return productRepository.findByNamePrefix(projection, prefix.trim(), searchLimit(limit));
+    }
+
+    private int searchLimit(Integer limit) {
+        int searchLimit = limit == null ? defaultSearchLimit : limit;
+        if (searchLimit < 1 || searchLimit > maxSearchLimit) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxSearchLimit);
+        }
+        return searchLimit;
+    }
+
+    public <T> List<T> getProductsSortedByValueDesc(ProductProjection<T> projection) {
+        return productRepository.findAllOrderByValueDesc(projection);
+    }
+
+    public <T> List<T> getProductsByValueRange(ProductProjection<T> projection, BigDecimal minValue,
+                                               BigDecimal maxValue) {
+        return productRepository.findByValueRange(projection, minValue, maxValue);
     }
 
     public boolean productExists(Long id) {
@@ -127,13 +466,6 @@ public class ProductService {
     }
 
     public long getProductCount() {
-        return productRepository.count();
-    }
-
-    public BigDecimal getTotalProductsValue() {
-        List<Product> products = productRepository.listAll();
-        return products.stream()
-            .map(product -> product.value)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return countFlight.run("count", productCounters::getCount);
     }
 }
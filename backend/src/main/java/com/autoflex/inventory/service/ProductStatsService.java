@@ -0,0 +1,129 @@
+package com.autoflex.inventory.service;
+
+import com.autoflex.inventory.dto.ProductStatsResponse;
+import com.autoflex.inventory.dto.ValueBucketResponse;
+import com.autoflex.inventory.dto.ValuePercentileResponse;
+import com.autoflex.inventory.event.ProductChangedEvent;
+import com.autoflex.inventory.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+public class ProductStatsService {
+
+    private static final int MAX_BUCKETS = 100;
+    private static final List<Double> DEFAULT_PERCENTILES = List.of(50.0, 90.0, 95.0, 99.0);
+
+    @Inject
+    ProductRepository productRepository;
+
+    @Inject
+    ProductCounters productCounters;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private SingleFlight<String, BigDecimal> totalValueFlight;
+    private SingleFlight<String, ProductStatsResponse> summaryFlight;
+    private SingleFlight<Integer, List<ValueBucketResponse>> bucketsFlight;
+    private SingleFlight<List<Double>, List<ValuePercentileResponse>> percentilesFlight;
+
+    @PostConstruct
+    void init() {
+        totalValueFlight = new SingleFlight<>(meterRegistry, "stats.total-value");
+        summaryFlight = new SingleFlight<>(meterRegistry, "stats.summary");
+        bucketsFlight = new SingleFlight<>(meterRegistry, "stats.value-buckets");
+        percentilesFlight = new SingleFlight<>(meterRegistry, "stats.percentiles");
+    }
+
+    void onProductChanged(@Observes(during = TransactionPhase.AFTER_COMPLETION) ProductChangedEvent event) {
+        totalValueFlight.forgetAll();
+        summaryFlight.forgetAll();
+        bucketsFlight.forgetAll();
+        percentilesFlight.forgetAll();
+    }
+
+    public BigDecimal getTotalValue() {
+        return totalValueFlight.run("total", productCounters::getTotalValue);
+    }
+
+    public ProductStatsResponse getSummary() {
+        return summaryFlight.run("summary", this::loadSummary);
+    }
+
+    private ProductStatsResponse loadSummary() {
+        Object[] row = productRepository.aggregateValues();
+        long count = ((Number) row[0]).longValue();
+        BigDecimal total = (BigDecimal) row[1];
+        BigDecimal average = count == 0
+            ? null
+            : total.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+        return new ProductStatsResponse(count, total, (BigDecimal) row[2], (BigDecimal) row[3], average);
+    }
+
+    public List<ValueBucketResponse> getValueBuckets(Integer buckets) {
+        int bucketCount = buckets == null ? 10 : buckets;
+        if (bucketCount < 1 || bucketCount > MAX_BUCKETS) {
+            throw new IllegalArgumentException("Buckets must be between 1 and " + MAX_BUCKETS);
+        }
+        return bucketsFlight.run(bucketCount, () -> loadValueBuckets(bucketCount));
+    }
+
+    private List<ValueBucketResponse> loadValueBuckets(int bucketCount) {
+        Object[] row = productRepository.aggregateValues();
+        long count = ((Number) row[0]).longValue();
+        if (count == 0) {
+            return List.of();
+        }
+
+        BigDecimal min = (BigDecimal) row[2];
+        BigDecimal max = (BigDecimal) row[3];
+        if (min.compareTo(max) == 0) {
+            return List.of(new ValueBucketResponse(min, max, count));
+        }
+
+        // The database buckets by this same rounded width, so the reported bounds match the counted rows.
+        BigDecimal width = max.subtract(min).divide(BigDecimal.valueOf(bucketCount), 2, RoundingMode.CEILING);
+        BigDecimal end = min.add(width.multiply(BigDecimal.valueOf(bucketCount)));
+        List<ValueBucketResponse> result = new ArrayList<>();
+        for (Object[] bucket : productRepository.countByValueBucket(min, end, bucketCount)) {
+            int index = ((Number) bucket[0]).intValue() - 1;
+            BigDecimal lower = min.add(width.multiply(BigDecimal.valueOf(index)));
+            BigDecimal upper = index == bucketCount - 1 ? max : lower.add(width);
+            result.add(new ValueBucketResponse(lower, upper, ((Number) bucket[1]).longValue()));
+        }
+        return result;
+    }
+
+    public List<ValuePercentileResponse> getPercentiles(List<Double> percentiles) {
+        List<Double> requested = percentiles == null || percentiles.isEmpty() ? DEFAULT_PERCENTILES : percentiles;
+        for (Double percentile : requested) {
+            if (percentile == null || percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentiles must be between 0 and 100");
+            }
+        }
+        return percentilesFlight.run(List.copyOf(requested), () -> loadPercentiles(requested));
+    }
+
+    private List<ValuePercentileResponse> loadPercentiles(List<Double> requested) {
+        List<Double> fractions = requested.stream()
+            .map(percentile -> percentile / 100)
+            .collect(Collectors.toList());
+        BigDecimal[] values = productRepository.findValuePercentiles(fractions);
+
+        List<ValuePercentileResponse> result = new ArrayList<>();
+        for (int i = 0; i < requested.size(); i++) {
+            result.add(new ValuePercentileResponse(requested.get(i), values[i]));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,269 @@
+package com.autoflex.inventory.service;
+
+import com.autoflex.inventory.dto.ProductPatchRequest;
+import com.autoflex.inventory.dto.ProductRequest;
+import com.autoflex.inventory.dto.ProductResponse;
+import com.autoflex.inventory.dto.ProductUpsertResult;
+import com.autoflex.inventory.exception.PreconditionFailedException;
+import com.autoflex.inventory.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.validation.Valid;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Single product creates, updates, patches, upserts and deletes. With
+ * {@code inventory.products.write-batching.enabled} they are queued and applied by one writer thread in batched
+ * transactions (group commit): a batch commits when it holds {@code max-batch-size} writes or {@code max-delay} after
+ * its first write. Each caller is answered only once the batch holding its write has committed.
+ * <p>
+ * Writes are applied in arrival order, one at a time, so per-product ordering behaves as if each ran in its own
+ * transaction. Repeated updates of a product within a batch work on the same managed entity and share the batch's
+ * commit. If a batch fails, e.g. on a duplicate code, its writes are retried one transaction each, so one bad write
+ * only fails its own request.
+ * <p>
+ * A caller waits at most {@code response-timeout} for its batch. If the writer thread stops, every pending write fails
+ * and later writes are rejected instead of queueing behind it.
+ */
+@ApplicationScoped
+public class ProductWritePipeline {
+
+    private static final Logger LOG = Logger.getLogger(ProductWritePipeline.class);
+
+    @Inject
+    ProductService productService;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "inventory.products.write-batching.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "inventory.products.write-batching.max-batch-size", defaultValue = "100")
+    int maxBatchSize;
+
+    @ConfigProperty(name = "inventory.products.write-batching.max-delay", defaultValue = "5ms")
+    Duration maxDelay;
+
+    @ConfigProperty(name = "inventory.products.write-batching.queue-capacity", defaultValue = "10000")
+    int queueCapacity;
+
+    @ConfigProperty(name = "inventory.products.write-batching.response-timeout", defaultValue = "30s")
+    Duration responseTimeout;
+
+    private BlockingQueue<Write<?>> queue;
+    private ExecutorService writer;
+    private DistributionSummary batchSizes;
+    private Counter retriedBatches;
+    private volatile boolean stopped;
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        batchSizes = DistributionSummary.builder("inventory.products.write.batch.size")
+            .description("Product writes committed together in one transaction")
+            .register(meterRegistry);
+        retriedBatches = Counter.builder("inventory.products.write.batch.retried")
+            .description("Batches that failed to commit and were retried one write per transaction")
+            .register(meterRegistry);
+        writer = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "product-write-pipeline"));
+        writer.execute(this::run);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (writer != null) {
+            writer.shutdownNow();
+        }
+    }
+
+    public ProductResponse createProduct(@Valid ProductRequest request) {
+        if (!enabled) {
+            return productService.createProduct(request);
+        }
+        return submit(() -> productService.applyCreate(request));
+    }
+
+    public ProductResponse updateProduct(Long id, @Valid ProductRequest request, Long expectedVersion) {
+        if (!enabled) {
+            return productService.updateProduct(id, request, expectedVersion);
+        }
+        return submit(() -> productService.applyUpdate(id, request, expectedVersion));
+    }
+
+    public ProductResponse patchProduct(Long id, @Valid ProductPatchRequest request, Long expectedVersion) {
+        if (!enabled) {
+            return productService.patchProduct(id, request, expectedVersion);
+        }
+        return submit(() -> productService.applyPatch(id, request, expectedVersion));
+    }
+
+    public ProductUpsertResult upsertProduct(String code, @Valid ProductRequest request) {
+        if (!enabled) {
+            return productService.upsertProduct(code, request);
+        }
+        return submit(() -> productService.applyUpsert(code, request));
+    }
+
+    public void deleteProduct(Long id, Long expectedVersion) {
+        if (!enabled) {
+            productService.deleteProduct(id, expectedVersion);
+            return;
+        }
+        submit(() -> {
+            productService.applyDelete(id, expectedVersion);
+            return null;
+        });
+    }
+
+    private <T> T submit(Supplier<T> apply) {
+        if (stopped) {
+            throw new IllegalStateException("Product write pipeline stopped");
+        }
+        Write<T> write = new Write<>(apply);
+        try {
+            // A full queue holds callers back until the writer catches up.
+            if (!queue.offer(write, responseTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new IllegalStateException("Timed out queueing a product write");
+            }
+            // The writer may have stopped and drained the queue before this write was added.
+            if (stopped && queue.remove(write)) {
+                throw new IllegalStateException("Product write pipeline stopped");
+            }
+            return write.result.get(responseTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queue.remove(write);
+            throw new IllegalStateException("Interrupted while waiting for a product write", e);
+        } catch (TimeoutException e) {
+            if (queue.remove(write)) {
+                throw new IllegalStateException("Timed out waiting for a product write, it was not applied", e);
+            }
+            throw new IllegalStateException("Timed out waiting for a product write, it may still be applied", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Product write failed", e.getCause());
+        }
+    }
+
+    private void run() {
+        List<Write<?>> batch = new ArrayList<>(maxBatchSize);
+        Throwable cause = null;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + maxDelay.toNanos();
+                while (batch.size() < maxBatchSize) {
+                    Write<?> next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                try {
+                    commit(batch);
+                } catch (Throwable e) {
+                    // Anything commit() did not handle fails this batch only; the writer carries on.
+                    LOG.errorf(e, "Batch of %d product writes failed", batch.size());
+                    batch.forEach(write -> write.result.completeExceptionally(e));
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            LOG.error("Product write pipeline stopped", e);
+            cause = e;
+        } finally {
+            stopped = true;
+            IllegalStateException failure = new IllegalStateException("Product write pipeline stopped", cause);
+            batch.forEach(write -> write.result.completeExceptionally(failure));
+            for (Write<?> write; (write = queue.poll()) != null; ) {
+                write.result.completeExceptionally(failure);
+            }
+        }
+    }
+
+    private void commit(List<Write<?>> batch) {
+        try {
+            QuarkusTransaction.requiringNew().run(() -> batch.forEach(Write::apply));
+        } catch (RuntimeException e) {
+            LOG.debugf(e, "Batch of %d product writes failed to commit, retrying one by one", batch.size());
+            retriedBatches.increment();
+            for (Write<?> write : batch) {
+                try {
+                    productService.retryOnConflict(() -> {
+                        write.apply();
+                        return null;
+                    });
+                } catch (RuntimeException failure) {
+                    write.failure = failure;
+                }
+            }
+        }
+        batchSizes.record(batch.size());
+        batch.forEach(Write::acknowledge);
+    }
+
+    private static final class Write<T> {
+
+        private final Supplier<T> apply;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private T value;
+        private RuntimeException failure;
+
+        private Write(Supplier<T> apply) {
+            this.apply = apply;
+        }
+
+        void apply() {
+            failure = null;
+            try {
+                value = apply.get();
+            } catch (PreconditionFailedException e) {
+                if (e.getCause() instanceof OptimisticLockException) {
+                    // A version conflict found by a flush: the persistence context is unusable, so the whole batch
+                    // fails and is retried one write per transaction, where this write fails on its own.
+                    throw e;
+                }
+                // Rejected before changing anything; the rest of the batch still commits.
+                failure = e;
+            } catch (IllegalArgumentException | ResourceNotFoundException e) {
+                failure = e;
+            }
+        }
+
+        void acknowledge() {
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.autoflex.inventory.service;
+
+import com.autoflex.inventory.dto.ProductionCapacityResponse;
+import com.autoflex.inventory.event.BillOfMaterialsChangedEvent;
+import com.autoflex.inventory.event.ProductChangedEvent;
+import com.autoflex.inventory.event.StockChangedEvent;
+import com.autoflex.inventory.repository.ProductMaterialRepository;
+import com.autoflex.inventory.repository.RawMaterialRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@ApplicationScoped
+public class ProductionCapacityEngine {
+
+    @Inject
+    ProductMaterialRepository productMaterialRepository;
+
+    @Inject
+    RawMaterialRepository rawMaterialRepository;
+
+    private final Object buildLock = new Object();
+    private final AtomicLong structureVersion = new AtomicLong();
+    private final Map<Long, StockChangedEvent> pendingStock = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot;
+
+    public List<ProductionCapacityResponse> getCapacities() {
+        Snapshot current = current();
+        int[] capacity = current.capacities();
+        List<ProductionCapacityResponse> result = new ArrayList<>(capacity.length);
+        for (int p = 0; p < capacity.length; p++) {
+            result.add(current.toResponse(p, capacity[p]));
+        }
+        return result;
+    }
+
+    public ProductionCapacityResponse getCapacity(Long productId) {
+        Snapshot current = current();
+        int p = current.productIndex(productId);
+        if (p < 0) {
+            return null;
+        }
+        return current.toResponse(p, current.capacities()[p]);
+    }
+
+    public void invalidate() {
+        structureVersion.incrementAndGet();
+        snapshot = null;
+    }
+
+    Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (buildLock) {
+            current = snapshot;
+            if (current != null) {
+                return current;
+            }
+            long observedVersion = structureVersion.get();
+            current = QuarkusTransaction.joiningExisting().call(this::build);
+            if (structureVersion.get() == observedVersion) {
+                snapshot = current;
+            }
+            applyPendingStock(current);
+            return current;
+        }
+    }
+
+    void onStockChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) StockChangedEvent event) {
+        Snapshot current = snapshot;
+        if (current != null) {
+            current.updateStock(event.getMaterialId(), event.getStockQuantity(), event.getVersion());
+            return;
+        }
+        // A snapshot may be loading from rows read before this commit; replay the change once it is installed.
+        pendingStock.merge(event.getMaterialId(), event,
+            (previous, next) -> next.getVersion() > previous.getVersion() ? next : previous);
+        current = snapshot;
+        if (current != null) {
+            applyPendingStock(current);
+        }
+    }
+
+    private void applyPendingStock(Snapshot current) {
+        pendingStock.values().removeIf(event -> {
+            current.updateStock(event.getMaterialId(), event.getStockQuantity(), event.getVersion());
+            return true;
+        });
+    }
+
+    void onBillOfMaterialsChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) BillOfMaterialsChangedEvent event) {
+        invalidate();
+    }
+
+    void onProductChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) ProductChangedEvent event) {
+        Snapshot current = snapshot;
+        if (current != null && current.productIndex(event.getProductId()) >= 0) {
+            invalidate();
+        }
+    }
+
+    private Snapshot build() {
+        List<Object[]> products = productMaterialRepository.findProductsWithMaterials();
+        List<Object[]> links = productMaterialRepository.findAllLinks();
+        List<Object[]> materials = rawMaterialRepository.findStockLevels();
+
+        int productCount = products.size();
+        long[] productIds = new long[productCount];
+        String[] productCodes = new String[productCount];
+        String[] productNames = new String[productCount];
+        BigDecimal[] productValues = new BigDecimal[productCount];
+        for (int p = 0; p < productCount; p++) {
+            Object[] row = products.get(p);
+            productIds[p] = ((Number) row[0]).longValue();
+            productCodes[p] = (String) row[1];
+            productNames[p] = (String) row[2];
+            productValues[p] = (BigDecimal) row[3];
+        }
+
+        int materialCount = materials.size();
+        long[] materialIds = new long[materialCount];
+        int[] stock = new int[materialCount];
+        long[] stockVersion = new long[materialCount];
+        for (int m = 0; m < materialCount; m++) {
+            Object[] row = materials.get(m);
+            materialIds[m] = ((Number) row[0]).longValue();
+            stock[m] = ((Number) row[1]).intValue();
+            stockVersion[m] = ((Number) row[2]).longValue();
+        }
+
+        int[] linkProduct = new int[links.size()];
+        int[] linkMaterial = new int[links.size()];
+        int[] linkRequired = new int[links.size()];
+        int linkCount = 0;
+        for (Object[] row : links) {
+            int p = Arrays.binarySearch(productIds, ((Number) row[0]).longValue());
+            int m = Arrays.binarySearch(materialIds, ((Number) row[1]).longValue());
+            if (p >= 0 && m >= 0) {
+                linkProduct[linkCount] = p;
+                linkMaterial[linkCount] = m;
+                linkRequired[linkCount] = ((Number) row[2]).intValue();
+                linkCount++;
+            }
+        }
+
+        int[] bomStart = new int[productCount + 1];
+        int[] usageCount = new int[materialCount + 1];
+        for (int i = 0; i < linkCount; i++) {
+            bomStart[linkProduct[i] + 1]++;
+            usageCount[linkMaterial[i] + 1]++;
+        }
+        for (int p = 0; p < productCount; p++) {
+            bomStart[p + 1] += bomStart[p];
+        }
+        int[] bomMaterial = new int[linkCount];
+        int[] bomRequired = new int[linkCount];
+        int[] bomFill = Arrays.copyOf(bomStart, productCount);
+        for (int i = 0; i < linkCount; i++) {
+            int slot = bomFill[linkProduct[i]]++;
+            bomMaterial[slot] = linkMaterial[i];
+            bomRequired[slot] = linkRequired[i];
+        }
+
+        int[] usageStart = new int[materialCount + 1];
+        for (int m = 0; m < materialCount; m++) {
+            usageStart[m + 1] = usageStart[m] + usageCount[m + 1];
+        }
+        int[] usageProduct = new int[linkCount];
+        int[] fill = Arrays.copyOf(usageStart, materialCount);
+        for (int p = 0; p < productCount; p++) {
+            for (int i = bomStart[p]; i < bomStart[p + 1]; i++) {
+                usageProduct[fill[bomMaterial[i]]++] = p;
+            }
+        }
+
+        return new Snapshot(productIds, productCodes, productNames, productValues, bomStart, bomMaterial,
+            bomRequired, materialIds, usageStart, usageProduct, stock, stockVersion);
+    }
+
+    static final class Snapshot {
+
+        final long[] productIds;
+        final String[] productCodes;
+        final String[] productNames;
+        final BigDecimal[] productValues;
+        final int[] bomStart;
+        final int[] bomMaterial;
+        final int[] bomRequired;
+        final long[] materialIds;
+        final int[] usageStart;
+        final int[] usageProduct;
+        private final int[] stock;
+        private final long[] stockVersion;
+        private final int[] capacity;
+
+        Snapshot(long[] productIds, String[] productCodes, String[] productNames, BigDecimal[] productValues,
+                 int[] bomStart, int[] bomMaterial, int[] bomRequired, long[] materialIds,
+                 int[] usageStart, int[] usageProduct, int[] stock, long[] stockVersion) {
+            this.productIds = productIds;
+            this.productCodes = productCodes;
+            this.productNames = productNames;
+            this.productValues = productValues;
+            this.bomStart = bomStart;
+            this.bomMaterial = bomMaterial;
+            this.bomRequired = bomRequired;
+            this.materialIds = materialIds;
+            this.usageStart = usageStart;
+            this.usageProduct = usageProduct;
+            this.stock = stock;
+            this.stockVersion = stockVersion;
+            this.capacity = new int[productIds.length];
+            for (int p = 0; p < productIds.length; p++) {
+                recompute(p);
+            }
+        }
+
+        int productCount() {
+            return productIds.length;
+        }
+
+        int materialCount() {
+            return materialIds.length;
+        }
+
+        int productIndex(long productId) {
+            return Arrays.binarySearch(productIds, productId);
+        }
+
+        synchronized int[] capacities() {
+            return capacity.clone();
+        }
+
+        synchronized int[] stockLevels() {
+            return stock.clone();
+        }
+
+        synchronized void updateStock(long materialId, int quantity, long version) {
+            int m = Arrays.binarySearch(materialIds, materialId);
+            if (m < 0 || version <= stockVersion[m]) {
+                return;
+            }
+            stock[m] = quantity;
+            stockVersion[m] = version;
+            for (int i = usageStart[m]; i < usageStart[m + 1]; i++) {
+                recompute(usageProduct[i]);
+            }
+        }
+
+        ProductionCapacityResponse toResponse(int p, int maxProducible) {
+            return new ProductionCapacityResponse(productIds[p], productCodes[p], productNames[p],
+                productValues[p], maxProducible);
+        }
+
+        private void recompute(int p) {
+            if (bomStart[p] == bomStart[p + 1]) {
+                capacity[p] = 0;
+                return;
+            }
+            int max = Integer.MAX_VALUE;
+            for (int i = bomStart[p]; i < bomStart[p + 1]; i++) {
+                max = Math.min(max, stock[bomMaterial[i]] / bomRequired[i]);
+            }
+            capacity[p] = max;
+        }
+    }
+}
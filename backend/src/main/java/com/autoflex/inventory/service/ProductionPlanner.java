@@ -0,0 +1,312 @@
+package com.autoflex.inventory.service;
+
+import com.autoflex.inventory.dto.ProductionPlanItemResponse;
+import com.autoflex.inventory.dto.ProductionPlanResponse;
+import com.autoflex.inventory.dto.ProductionPlanResponse.Mode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+@ApplicationScoped
+public class ProductionPlanner {
+
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+    // First-product quantities a branch task searches itself instead of splitting further.
+    private static final int BRANCH_LEAF_SIZE = 16;
+
+    @Inject
+    ProductionCapacityEngine capacityEngine;
+
+    @ConfigProperty(name = "inventory.production.plan.parallelism", defaultValue = "0")
+    int parallelism;
+
+    @ConfigProperty(name = "inventory.production.plan.default-time-budget", defaultValue = "200")
+    long defaultTimeBudgetMillis;
+
+    @ConfigProperty(name = "inventory.production.plan.max-time-budget", defaultValue = "5000")
+    long maxTimeBudgetMillis;
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    void init() {
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    public ProductionPlanResponse plan(Mode mode, Long timeBudgetMillis) {
+        long budget = timeBudgetMillis == null ? defaultTimeBudgetMillis : timeBudgetMillis;
+        if (budget < 1 || budget > maxTimeBudgetMillis) {
+            throw new IllegalArgumentException("Time budget must be between 1 and " + maxTimeBudgetMillis + " ms");
+        }
+
+        long start = System.nanoTime();
+        ProductionCapacityEngine.Snapshot snapshot = capacityEngine.current();
+        Problem problem = new Problem(snapshot, snapshot.stockLevels());
+
+        int[] quantities = problem.greedy();
+        boolean optimal = problem.productCount() == 0;
+        if (mode == Mode.EXACT && !optimal) {
+            BranchAndBound search = new BranchAndBound(problem, quantities, start + budget * 1_000_000L);
+            pool.invoke(search.root());
+            quantities = search.bestQuantities();
+            optimal = !search.timedOut();
+        }
+
+        List<ProductionPlanItemResponse> items = new ArrayList<>();
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < problem.productCount(); i++) {
+            if (quantities[i] == 0) {
+                continue;
+            }
+            int p = problem.products[i];
+            BigDecimal subtotal = snapshot.productValues[p].multiply(BigDecimal.valueOf(quantities[i]));
+            total = total.add(subtotal);
+            items.add(new ProductionPlanItemResponse(snapshot.productIds[p], snapshot.productCodes[p],
+                snapshot.productNames[p], snapshot.productValues[p], quantities[i], subtotal));
+        }
+        items.sort(Comparator.comparing(ProductionPlanItemResponse::getSubtotal).reversed());
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+        return new ProductionPlanResponse(mode, optimal, total, elapsedMillis, items);
+    }
+
+    static final class Problem {
+
+        final int[] products;
+        final long[] values;
+        final int[] bomStart;
+        final int[] bomMaterial;
+        final int[] bomRequired;
+        final int[] stock;
+
+        Problem(ProductionCapacityEngine.Snapshot snapshot, int[] stock) {
+            this.bomStart = snapshot.bomStart;
+            this.bomMaterial = snapshot.bomMaterial;
+            this.bomRequired = snapshot.bomRequired;
+            this.stock = stock;
+
+            long[] cents = new long[snapshot.productCount()];
+            for (int p = 0; p < cents.length; p++) {
+                cents[p] = snapshot.productValues[p].movePointRight(2).longValue();
+            }
+            this.products = IntStream.range(0, snapshot.productCount())
+                .filter(p -> maxProducible(p, stock) > 0)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingLong(p -> cents[p]).reversed())
+                .mapToInt(Integer::intValue)
+                .toArray();
+            this.values = new long[products.length];
+            for (int i = 0; i < products.length; i++) {
+                values[i] = cents[products[i]];
+            }
+        }
+
+        int productCount() {
+            return products.length;
+        }
+
+        int maxProducible(int p, int[] available) {
+            if (bomStart[p] == bomStart[p + 1]) {
+                return 0;
+            }
+            int max = Integer.MAX_VALUE;
+            for (int i = bomStart[p]; i < bomStart[p + 1]; i++) {
+                max = Math.min(max, available[bomMaterial[i]] / bomRequired[i]);
+            }
+            return max;
+        }
+
+        void consume(int p, int quantity, int[] available) {
+            for (int i = bomStart[p]; i < bomStart[p + 1]; i++) {
+                available[bomMaterial[i]] -= quantity * bomRequired[i];
+            }
+        }
+
+        int[] greedy() {
+            int[] available = stock.clone();
+            int[] quantities = new int[products.length];
+            for (int i = 0; i < products.length; i++) {
+                quantities[i] = maxProducible(products[i], available);
+                consume(products[i], quantities[i], available);
+            }
+            return quantities;
+        }
+
+        long value(int[] quantities) {
+            long total = 0;
+            for (int i = 0; i < quantities.length; i++) {
+                total += values[i] * quantities[i];
+            }
+            return total;
+        }
+    }
+
+    static final class BranchAndBound {
+
+        private final Problem problem;
+        private final long deadline;
+        private final AtomicLong bestValue;
+        private final AtomicBoolean timedOut = new AtomicBoolean();
+        private int[] bestQuantities;
+
+        BranchAndBound(Problem problem, int[] incumbent, long deadline) {
+            this.problem = problem;
+            this.deadline = deadline;
+            this.bestQuantities = incumbent.clone();
+            this.bestValue = new AtomicLong(problem.value(incumbent));
+        }
+
+        RecursiveAction root() {
+            return new BranchTask(0, problem.maxProducible(problem.products[0], problem.stock));
+        }
+
+        synchronized int[] bestQuantities() {
+            return bestQuantities.clone();
+        }
+
+        boolean timedOut() {
+            return timedOut.get();
+        }
+
+        private synchronized void offer(long value, int[] quantities) {
+            if (value > bestValue.get()) {
+                bestValue.set(value);
+                bestQuantities = quantities.clone();
+            }
+        }
+
+        private boolean pastDeadline() {
+            if (System.nanoTime() > deadline) {
+                timedOut.set(true);
+            }
+            return timedOut.get();
+        }
+
+        // Searches the first product's quantities from high down to low, halving the range until it is small enough
+        // to search in this task, so the number of live tasks stays logarithmic in the first product's capacity.
+        private final class BranchTask extends RecursiveAction {
+
+            private final int low;
+            private final int high;
+            private int[] available;
+            private int[] quantities;
+            private double[] ratio;
+            private double[] materialValue;
+            private boolean[] touched;
+            private int[] touchedList;
+            private long nodes;
+
+            private BranchTask(int low, int high) {
+                this.low = low;
+                this.high = high;
+            }
+
+            @Override
+            protected void compute() {
+                if (pastDeadline()) {
+                    return;
+                }
+                if (high - low >= BRANCH_LEAF_SIZE) {
+                    int mid = low + (high - low) / 2;
+                    invokeAll(new BranchTask(mid + 1, high), new BranchTask(low, mid));
+                    return;
+                }
+
+                int materials = problem.stock.length;
+                quantities = new int[problem.productCount()];
+                ratio = new double[materials];
+                materialValue = new double[materials];
+                touched = new boolean[materials];
+                touchedList = new int[materials];
+                for (int firstQuantity = high; firstQuantity >= low && !pastDeadline(); firstQuantity--) {
+                    available = problem.stock.clone();
+                    problem.consume(problem.products[0], firstQuantity, available);
+                    quantities[0] = firstQuantity;
+                    search(1, problem.values[0] * firstQuantity);
+                }
+            }
+
+            private void search(int depth, long value) {
+                if (++nodes % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+                    timedOut.set(true);
+                }
+                if (timedOut.get()) {
+                    return;
+                }
+                if (depth == quantities.length) {
+                    if (value > bestValue.get()) {
+                        offer(value, quantities);
+                    }
+                    return;
+                }
+                if (value + bound(depth) <= bestValue.get()) {
+                    return;
+                }
+
+                int p = problem.products[depth];
+                int max = problem.maxProducible(p, available);
+                problem.consume(p, max, available);
+                for (int quantity = max; quantity >= 0; quantity--) {
+                    quantities[depth] = quantity;
+                    search(depth + 1, value + problem.values[depth] * quantity);
+                    if (quantity > 0) {
+                        problem.consume(p, -1, available);
+                    }
+                }
+                quantities[depth] = 0;
+            }
+
+            // Relaxation: every material m caps the value of the products that use it at
+            // stock(m) times their best value per unit of m; products not using m are only bounded by their capacity.
+            private long bound(int depth) {
+                double total = 0;
+                int touchedCount = 0;
+                for (int d = depth; d < quantities.length; d++) {
+                    int p = problem.products[d];
+                    int capacity = problem.maxProducible(p, available);
+                    if (capacity == 0) {
+                        continue;
+                    }
+                    double productValue = (double) problem.values[d] * capacity;
+                    total += productValue;
+                    for (int i = problem.bomStart[p]; i < problem.bomStart[p + 1]; i++) {
+                        int m = problem.bomMaterial[i];
+                        if (!touched[m]) {
+                            touched[m] = true;
+                            touchedList[touchedCount++] = m;
+                            ratio[m] = 0;
+                            materialValue[m] = 0;
+                        }
+                        materialValue[m] += productValue;
+                        ratio[m] = Math.max(ratio[m], (double) problem.values[d] / problem.bomRequired[i]);
+                    }
+                }
+
+                double bound = total;
+                for (int t = 0; t < touchedCount; t++) {
+                    int m = touchedList[t];
+                    bound = Math.min(bound, available[m] * ratio[m] + total - materialValue[m]);
+                    touched[m] = false;
+                }
+                return (long) Math.ceil(bound);
+            }
+        }
+    }
+}
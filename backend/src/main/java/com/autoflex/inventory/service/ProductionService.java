@@ -0,0 +1,51 @@
+package com.autoflex.inventory.service;
+
+import com.autoflex.inventory.dto.ProductionCapacityResponse;
+import com.autoflex.inventory.dto.ProductionPlanResponse;
+import com.autoflex.inventory.entity.Product;
+import com.autoflex.inventory.exception.ResourceNotFoundException;
+import com.autoflex.inventory.repository.ProductRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.List;
+
+@ApplicationScoped
+public class ProductionService {
+
+    @Inject
+    ProductionCapacityEngine capacityEngine;
+
+    @Inject
+    ProductionPlanner productionPlanner;
+
+    @Inject
+    ProductRepository productRepository;
+
+    public List<ProductionCapacityResponse> getProductionCapacity() {
+        return capacityEngine.getCapacities();
+    }
+
+    public ProductionCapacityResponse getProductionCapacity(Long productId) {
+        ProductionCapacityResponse capacity = capacityEngine.getCapacity(productId);
+        if (capacity != null) {
+            return capacity;
+        }
+
+        Product product = productRepository.findById(productId);
+        if (product == null) {
+            throw new ResourceNotFoundException("Product not found with id: " + productId);
+        }
+        return new ProductionCapacityResponse(product.id, product.code, product.name, product.value, 0);
+    }
+
+    public ProductionPlanResponse getProductionPlan(String mode, Long timeBudgetMillis) {
+        ProductionPlanResponse.Mode planMode;
+        try {
+            planMode = mode == null ? ProductionPlanResponse.Mode.GREEDY
+                : ProductionPlanResponse.Mode.valueOf(mode.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Plan mode must be GREEDY or EXACT");
+        }
+        return productionPlanner.plan(planMode, timeBudgetMillis);
+    }
+}
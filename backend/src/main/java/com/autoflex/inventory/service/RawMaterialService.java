@@ -0,0 +1,117 @@
+package com.autoflex.inventory.service;
+
+import com.autoflex.inventory.dto.RawMaterialRequest;
+import com.autoflex.inventory.dto.RawMaterialResponse;
+import com.autoflex.inventory.dto.StockUpdateRequest;
+import com.autoflex.inventory.entity.RawMaterial;
+import com.autoflex.inventory.event.BillOfMaterialsChangedEvent;
+import com.autoflex.inventory.event.StockChangedEvent;
+import com.autoflex.inventory.exception.ResourceNotFoundException;
+import com.autoflex.inventory.repository.RawMaterialRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+public class RawMaterialService {
+
+    @Inject
+    RawMaterialRepository rawMaterialRepository;
+
+    @Inject
+    Event<StockChangedEvent> stockChanged;
+
+    @Inject
+    Event<BillOfMaterialsChangedEvent> billOfMaterialsChanged;
+
+    private RawMaterialResponse toResponse(RawMaterial material) {
+        return new RawMaterialResponse(
+            material.id,
+            material.code,
+            material.name,
+            material.stockQuantity,
+            material.createdAt,
+            material.updatedAt
+        );
+    }
+
+    private RawMaterial findExisting(Long id) {
+        RawMaterial material = rawMaterialRepository.findById(id);
+        if (material == null) {
+            throw new ResourceNotFoundException("Raw material not found with id: " + id);
+        }
+        return material;
+    }
+
+    public List<RawMaterialResponse> getAllRawMaterials() {
+        return rawMaterialRepository.findAllOrderByCode()
+            .stream()
+            .map(this::toResponse)
+            .collect(Collectors.toList());
+    }
+
+    public RawMaterialResponse getRawMaterialById(Long id) {
+        return toResponse(findExisting(id));
+    }
+
+    public RawMaterialResponse getRawMaterialByCode(String code) {
+        RawMaterial material = RawMaterial.findByCode(code);
+        if (material == null) {
+            throw new ResourceNotFoundException("Raw material not found with code: " + code);
+        }
+        return toResponse(material);
+    }
+
+    @Transactional
+    public RawMaterialResponse createRawMaterial(@Valid RawMaterialRequest request) {
+        if (RawMaterial.existsByCode(request.getCode())) {
+            throw new IllegalArgumentException("Raw material code already exists: " + request.getCode());
+        }
+
+        RawMaterial material = new RawMaterial(request.getCode(), request.getName(), request.getStockQuantity());
+        rawMaterialRepository.persist(material);
+        return toResponse(material);
+    }
+
+    @Transactional
+    public RawMaterialResponse updateRawMaterial(Long id, @Valid RawMaterialRequest request) {
+        RawMaterial material = findExisting(id);
+
+        if (!material.code.equals(request.getCode()) &&
+            rawMaterialRepository.existsByCodeAndIdNot(request.getCode(), id)) {
+            throw new IllegalArgumentException("Raw material code already exists: " + request.getCode());
+        }
+
+        boolean stockChanges = !material.stockQuantity.equals(request.getStockQuantity());
+        material.code = request.getCode();
+        material.name = request.getName();
+        material.stockQuantity = request.getStockQuantity();
+
+        rawMaterialRepository.flush();
+        if (stockChanges) {
+            stockChanged.fire(new StockChangedEvent(material.id, material.stockQuantity, material.version));
+        }
+        return toResponse(material);
+    }
+
+    @Transactional
+    public RawMaterialResponse updateStock(Long id, @Valid StockUpdateRequest request) {
+        RawMaterial material = findExisting(id);
+        material.stockQuantity = request.getStockQuantity();
+
+        rawMaterialRepository.flush();
+        stockChanged.fire(new StockChangedEvent(material.id, material.stockQuantity, material.version));
+        return toResponse(material);
+    }
+
+    @Transactional
+    public void deleteRawMaterial(Long id) {
+        RawMaterial material = findExisting(id);
+        rawMaterialRepository.delete(material);
+        billOfMaterialsChanged.fire(new BillOfMaterialsChangedEvent(null));
+    }
+}
@@ -0,0 +1,88 @@
+package com.autoflex.inventory.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical reads: while a load for a key is running, other callers asking for the same key
+ * wait for its result instead of issuing their own query.
+ */
+final class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    SingleFlight(MeterRegistry registry, String name) {
+        this.executed = Counter.builder("inventory.single.flight")
+            .description("Reads that ran their own query or waited for an identical one in flight")
+            .tag("flight", name)
+            .tag("result", "executed")
+            .register(registry);
+        this.coalesced = Counter.builder("inventory.single.flight")
+            .description("Reads that ran their own query or waited for an identical one in flight")
+            .tag("flight", name)
+            .tag("result", "coalesced")
+            .register(registry);
+    }
+
+    V run(K key, Supplier<V> loader) {
+        // Inside a transaction the caller may depend on its own uncommitted writes, which other loads cannot see.
+        if (QuarkusTransaction.isActive()) {
+            executed.increment();
+            return loader.get();
+        }
+
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        executed.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Stops new callers from joining a load that may have read data older than a committed write.
+     */
+    void forget(K key) {
+        if (key != null) {
+            inFlight.remove(key);
+        }
+    }
+
+    void forgetAll() {
+        inFlight.clear();
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
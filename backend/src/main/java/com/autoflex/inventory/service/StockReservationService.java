@@ -0,0 +1,151 @@
+package com.autoflex.inventory.service;
+
+import com.autoflex.inventory.dto.ReservedMaterialResponse;
+import com.autoflex.inventory.dto.StockReservationRequest;
+import com.autoflex.inventory.dto.StockReservationResponse;
+import com.autoflex.inventory.entity.ReservedMaterial;
+import com.autoflex.inventory.entity.StockReservation;
+import com.autoflex.inventory.event.StockChangedEvent;
+import com.autoflex.inventory.exception.ResourceNotFoundException;
+import com.autoflex.inventory.repository.ProductMaterialRepository;
+import com.autoflex.inventory.repository.ProductRepository;
+import com.autoflex.inventory.repository.RawMaterialRepository;
+import com.autoflex.inventory.repository.StockReservationRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.persistence.LockModeType;
+import jakarta.transaction.Transactional;
+import jakarta.validation.Valid;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Takes the stock a production order needs for every material in the product's bill of materials, all or nothing.
+ * Each material is decremented by a conditional update that locks only its own row, in ascending material ID order so
+ * that orders sharing materials cannot deadlock; orders on disjoint materials proceed in parallel.
+ */
+@ApplicationScoped
+public class StockReservationService {
+
+    @Inject
+    StockReservationRepository reservationRepository;
+
+    @Inject
+    RawMaterialRepository rawMaterialRepository;
+
+    @Inject
+    ProductMaterialRepository productMaterialRepository;
+
+    @Inject
+    ProductRepository productRepository;
+
+    @Inject
+    Event<StockChangedEvent> stockChanged;
+
+    public static StockReservationResponse toResponse(StockReservation reservation) {
+        List<ReservedMaterialResponse> materials = reservation.materials.stream()
+            .map(material -> new ReservedMaterialResponse(material.materialId, material.quantity))
+            .collect(Collectors.toList());
+        return new StockReservationResponse(reservation.id, reservation.productId, reservation.quantity,
+            reservation.status, materials, reservation.createdAt, reservation.updatedAt);
+    }
+
+    public StockReservationResponse getReservation(Long id) {
+        return toResponse(findExisting(id, LockModeType.NONE));
+    }
+
+    @Transactional
+    public StockReservationResponse reserve(@Valid StockReservationRequest request) {
+        return toResponse(take(request, StockReservation.Status.RESERVED));
+    }
+
+    /**
+     * Takes the stock and records the order as consumed in one step, without a separate reservation.
+     */
+    @Transactional
+    public StockReservationResponse consume(@Valid StockReservationRequest request) {
+        return toResponse(take(request, StockReservation.Status.CONSUMED));
+    }
+
+    @Transactional
+    public StockReservationResponse consumeReservation(Long id) {
+        StockReservation reservation = findReserved(id);
+        reservation.status = StockReservation.Status.CONSUMED;
+        reservationRepository.flush();
+        return toResponse(reservation);
+    }
+
+    @Transactional
+    public StockReservationResponse releaseReservation(Long id) {
+        StockReservation reservation = findReserved(id);
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> materialIds = new ArrayList<>();
+        for (ReservedMaterial material : reservation.materials) {
+            // A material deleted since the reservation has no stock left to return to.
+            if (rawMaterialRepository.returnStock(material.materialId, material.quantity, now)) {
+                materialIds.add(material.materialId);
+            }
+        }
+        reservation.status = StockReservation.Status.RELEASED;
+        reservationRepository.flush();
+        fireStockChanged(materialIds);
+        return toResponse(reservation);
+    }
+
+    private StockReservation take(StockReservationRequest request, StockReservation.Status status) {
+        if (productRepository.findById(request.getProductId()) == null) {
+            throw new ResourceNotFoundException("Product not found with id: " + request.getProductId());
+        }
+        List<Object[]> requirements = productMaterialRepository.findRequirements(request.getProductId());
+        if (requirements.isEmpty()) {
+            throw new IllegalArgumentException("Product has no bill of materials: " + request.getProductId());
+        }
+
+        StockReservation reservation = new StockReservation(request.getProductId(), request.getQuantity(), status);
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> materialIds = new ArrayList<>(requirements.size());
+        for (Object[] requirement : requirements) {
+            Long materialId = (Long) requirement[0];
+            long needed = (long) (Integer) requirement[2] * request.getQuantity();
+            // Throwing rolls back the stock already taken for the materials before this one.
+            if (needed > Integer.MAX_VALUE || !rawMaterialRepository.takeStock(materialId, (int) needed, now)) {
+                throw new IllegalArgumentException("Insufficient stock of raw material " + requirement[1]
+                    + ": " + needed + " required");
+            }
+            reservation.materials.add(new ReservedMaterial(materialId, (int) needed));
+            materialIds.add(materialId);
+        }
+        reservationRepository.persist(reservation);
+        fireStockChanged(materialIds);
+        return reservation;
+    }
+
+    private void fireStockChanged(List<Long> materialIds) {
+        if (materialIds.isEmpty()) {
+            return;
+        }
+        for (Object[] level : rawMaterialRepository.findStockLevels(materialIds)) {
+            stockChanged.fire(new StockChangedEvent((Long) level[0], (Integer) level[1], (Long) level[2]));
+        }
+    }
+
+    private StockReservation findReserved(Long id) {
+        // Locking the reservation keeps two concurrent calls from both consuming or releasing it.
+        StockReservation reservation = findExisting(id, LockModeType.PESSIMISTIC_WRITE);
+        if (reservation.status != StockReservation.Status.RESERVED) {
+            throw new IllegalArgumentException("Stock reservation " + id + " is already " + reservation.status);
+        }
+        return reservation;
+    }
+
+    private StockReservation findExisting(Long id, LockModeType lockMode) {
+        StockReservation reservation = reservationRepository.findById(id, lockMode);
+        if (reservation == null) {
+            throw new ResourceNotFoundException("Stock reservation not found with id: " + id);
+        }
+        return reservation;
+    }
+}
@@ -0,0 +1,7 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_product_name_trgm ON product USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_product_name_prefix ON product (lower(name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_product_code_prefix ON product (code text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_product_value ON product (value, id);
+CREATE INDEX IF NOT EXISTS idx_product_created_at ON product (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_product_updated_at ON product (updated_at, id);
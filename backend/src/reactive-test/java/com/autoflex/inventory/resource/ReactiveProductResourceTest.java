@@ -0,0 +1,204 @@
+package com.autoflex.inventory.resource;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.*;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+@QuarkusTest
+public class ReactiveProductResourceTest {
+
+    @BeforeEach
+    void setup() {
+        RestAssured.basePath = "/api/reactive/products";
+    }
+
+    @Test
+    void testReactiveCrud() {
+        Number id =
+            given()
+                .contentType(ContentType.JSON)
+                .body("{\"code\":\"RX-001\",\"name\":\"Reactive Product\",\"value\":12.50}")
+                .when()
+                .post()
+                .then()
+                .statusCode(201)
+                .body("code", equalTo("RX-001"))
+                .extract()
+                .path("id");
+
+        given()
+            .pathParam("id", id)
+            .when()
+            .get("/{id}")
+            .then()
+            .statusCode(200)
+            .body("name", equalTo("Reactive Product"));
+
+        given()
+            .pathParam("code", "RX-001")
+            .when()
+            .get("/code/{code}")
+            .then()
+            .statusCode(200)
+            .body("id", equalTo(id.intValue()));
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"code\":\"RX-001\",\"name\":\"Reactive Product Updated\",\"value\":20.00}")
+            .pathParam("id", id)
+            .when()
+            .put("/{id}")
+            .then()
+            .statusCode(200)
+            .body("value", equalTo(20.0f));
+
+        given()
+            .basePath("/api/products")
+            .pathParam("id", id)
+            .when()
+            .get("/{id}")
+            .then()
+            .statusCode(200)
+            .body("name", equalTo("Reactive Product Updated"));
+
+        given()
+            .pathParam("id", id)
+            .when()
+            .delete("/{id}")
+            .then()
+            .statusCode(204);
+
+        given()
+            .pathParam("id", id)
+            .when()
+            .get("/{id}")
+            .then()
+            .statusCode(404);
+    }
+
+    @Test
+    void testReactiveWritesReachCountersAndChangeFeed() {
+        long count = given().basePath("/api/products").when().get("/count").then().statusCode(200)
+            .extract().as(Long.class);
+        String head = given().basePath("/api/products").when().get("/changes/head").then().statusCode(200)
+            .extract().path("cursor");
+
+        // The blocking path's transactional observers are called right away for these writes, without a transaction.
+        Number id =
+            given()
+                .contentType(ContentType.JSON)
+                .body("{\"code\":\"RX-COUNT-001\",\"name\":\"Reactive Counted\",\"value\":3.00}")
+                .when()
+                .post()
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"code\":\"RX-COUNT-001\",\"name\":\"Reactive Counted\",\"value\":4.00}")
+            .pathParam("id", id)
+            .when()
+            .put("/{id}")
+            .then()
+            .statusCode(200);
+
+        given().basePath("/api/products").when().get("/count").then().statusCode(200)
+            .body(equalTo(String.valueOf(count + 1)));
+        given()
+            .basePath("/api/products")
+            .queryParam("since", head)
+            .when()
+            .get("/changes")
+            .then()
+            .statusCode(200)
+            .body("items.find { it.productId == " + id + " }.product.value", equalTo(4.0f));
+
+        given()
+            .pathParam("id", id)
+            .when()
+            .delete("/{id}")
+            .then()
+            .statusCode(204);
+    }
+
+    @Test
+    void testReactiveDuplicateCodeIsRejected() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"code\":\"RX-DUP-001\",\"name\":\"Reactive Duplicate 1\",\"value\":1.00}")
+            .when()
+            .post()
+            .then()
+            .statusCode(201);
+        Number id =
+            given()
+                .contentType(ContentType.JSON)
+                .body("{\"code\":\"RX-DUP-002\",\"name\":\"Reactive Duplicate 2\",\"value\":1.00}")
+                .when()
+                .post()
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"code\":\"RX-DUP-001\",\"name\":\"Reactive Duplicate 3\",\"value\":1.00}")
+            .when()
+            .post()
+            .then()
+            .statusCode(400)
+            .body("message", equalTo("Product code already exists: RX-DUP-001"));
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"code\":\"RX-DUP-001\",\"name\":\"Reactive Duplicate 2\",\"value\":1.00}")
+            .pathParam("id", id)
+            .when()
+            .put("/{id}")
+            .then()
+            .statusCode(400)
+            .body("message", equalTo("Product code already exists: RX-DUP-001"));
+    }
+
+    @Test
+    void testReactivePagingAndStream() {
+        for (int i = 0; i < 3; i++) {
+            given()
+                .contentType(ContentType.JSON)
+                .body("{\"code\":\"RX-PAGE-" + i + "\",\"name\":\"Reactive Page " + i + "\",\"value\":5.00}")
+                .when()
+                .post()
+                .then()
+                .statusCode(201);
+        }
+
+        given()
+            .queryParam("limit", 2)
+            .when()
+            .get()
+            .then()
+            .statusCode(200)
+            .header(ProductResource.NEXT_CURSOR_HEADER, notNullValue())
+            .body("size()", equalTo(2));
+
+        given()
+            .when()
+            .get("/stream")
+            .then()
+            .statusCode(200)
+            .body("code", hasItems("RX-PAGE-0", "RX-PAGE-1", "RX-PAGE-2"));
+
+        given()
+            .queryParam("limit", 0)
+            .when()
+            .get()
+            .then()
+            .statusCode(400);
+    }
+}
@@ -0,0 +1,61 @@
+package com.autoflex.inventory.repository;
+
+import com.autoflex.inventory.entity.Product;
+import com.autoflex.inventory.event.ProductChangedEvent;
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.quarkus.hibernate.reactive.panache.PanacheRepository;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@ApplicationScoped
+public class ReactiveProductRepository implements PanacheRepository<Product> {
+
+    public Uni<List<Product>> findPageAfter(long afterId, int limit) {
+        return find("id > ?1 order by id", afterId).range(0, limit - 1).list();
+    }
+
+    public Uni<Product> findByCode(String code) {
+        return find("code", code).firstResult();
+    }
+
+    public Uni<List<Product>> findByValueRange(BigDecimal minValue, BigDecimal maxValue) {
+        return find("value between ?1 and ?2", minValue, maxValue).list();
+    }
+
+    public Uni<List<Product>> findAllOrderByValueDesc() {
+        return find("order by value desc").list();
+    }
+
+    public Uni<Void> recordChange(Long productId, String code, ProductChangedEvent.Type type) {
+        return Panache.getSession().chain(session -> session
+                .createNativeQuery(
+                    "insert into product_change (id, product_id, code, change_type, changed_at) " +
+                    "values (nextval('product_change_seq'), ?1, ?2, ?3, ?4)")
+                .setParameter(1, productId)
+                .setParameter(2, code)
+                .setParameter(3, type.name())
+                .setParameter(4, LocalDateTime.now())
+                .executeUpdate())
+            .replaceWithVoid();
+    }
+
+    public Uni<Void> addToCounters(int slot, long countDelta, BigDecimal valueDelta) {
+        return Panache.getSession().chain(session -> session
+                .createNativeQuery(
+                    "insert into product_stats_counter (slot, product_count, total_value, change_count) " +
+                    "values (?1, ?2, ?3, 1) " +
+                    "on conflict (slot) do update set " +
+                    "product_count = product_stats_counter.product_count + excluded.product_count, " +
+                    "total_value = product_stats_counter.total_value + excluded.total_value, " +
+                    "change_count = product_stats_counter.change_count + 1")
+                .setParameter(1, slot)
+                .setParameter(2, countDelta)
+                .setParameter(3, valueDelta)
+                .executeUpdate())
+            .replaceWithVoid();
+    }
+}
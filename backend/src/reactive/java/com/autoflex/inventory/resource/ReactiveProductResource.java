@@ -0,0 +1,185 @@
+package com.autoflex.inventory.resource;
+
+import com.autoflex.inventory.dto.ProductRequest;
+import com.autoflex.inventory.dto.ProductResponse;
+import com.autoflex.inventory.service.ReactiveProductService;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import java.math.BigDecimal;
+
+@Path("/api/reactive/products")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Tag(name = "Products (reactive)", description = "Product operations served on the event loop through Hibernate Reactive")
+public class ReactiveProductResource {
+
+    @Inject
+    ReactiveProductService productService;
+
+    @GET
+    @Operation(
+        summary = "Get all products",
+        description = "Returns a page of products ordered by ID. The cursor for the next page, " +
+            "if any, is returned in the X-Next-Cursor header and is passed back as 'after'"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Page of products",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(type = SchemaType.ARRAY, implementation = ProductResponse.class))
+    )
+    @APIResponse(
+        responseCode = "400",
+        description = "Invalid page limit"
+    )
+    public Uni<Response> getAllProducts(
+        @Parameter(description = "Return only products with an ID greater than this cursor")
+        @QueryParam("after") Long after,
+        @Parameter(description = "Maximum number of products to return")
+        @QueryParam("limit") Integer limit) {
+        return productService.getProductsPage(after, limit).map(page -> {
+            Response.ResponseBuilder response = Response.ok(page.getItems());
+            if (page.hasNext()) {
+                response.header(ProductResource.NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return response.build();
+        });
+    }
+
+    @GET
+    @Path("/stream")
+    @Operation(
+        summary = "Stream all products",
+        description = "Streams every product as a JSON array while rows are read from the database"
+    )
+    public Multi<ProductResponse> streamAllProducts() {
+        return productService.streamAllProducts();
+    }
+
+    @GET
+    @Path("/{id}")
+    @Operation(
+        summary = "Get product by ID",
+        description = "Returns a single product by its ID"
+    )
+    @APIResponse(
+        responseCode = "404",
+        description = "Product not found"
+    )
+    public Uni<ProductResponse> getProductById(
+        @Parameter(description = "Product ID", required = true)
+        @PathParam("id") Long id) {
+        return productService.getProductById(id);
+    }
+
+    @GET
+    @Path("/code/{code}")
+    @Operation(
+        summary = "Get product by code",
+        description = "Returns a single product by its code"
+    )
+    public Uni<ProductResponse> getProductByCode(
+        @Parameter(description = "Product code", required = true)
+        @PathParam("code") String code) {
+        return productService.getProductByCode(code);
+    }
+
+    @GET
+    @Path("/sorted/value-desc")
+    @Operation(
+        summary = "Get products sorted by value (descending)",
+        description = "Returns products sorted from highest to lowest value"
+    )
+    public Uni<Response> getProductsSortedByValueDesc() {
+        return productService.getProductsSortedByValueDesc().map(products -> Response.ok(products).build());
+    }
+
+    @GET
+    @Path("/filter/value-range")
+    @Operation(
+        summary = "Filter products by value range",
+        description = "Returns products within the specified value range"
+    )
+    public Uni<Response> getProductsByValueRange(
+        @Parameter(description = "Minimum value")
+        @QueryParam("min") BigDecimal minValue,
+        @Parameter(description = "Maximum value")
+        @QueryParam("max") BigDecimal maxValue) {
+        return productService.getProductsByValueRange(minValue, maxValue)
+            .map(products -> Response.ok(products).build());
+    }
+
+    @POST
+    @Operation(
+        summary = "Create a new product",
+        description = "Creates a new product with the provided data"
+    )
+    @APIResponse(
+        responseCode = "201",
+        description = "Product created successfully",
+        content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = ProductResponse.class))
+    )
+    @APIResponse(
+        responseCode = "400",
+        description = "Invalid input data"
+    )
+    public Uni<Response> createProduct(@Valid ProductRequest request) {
+        return productService.createProduct(request)
+            .map(product -> Response.status(Response.Status.CREATED).entity(product).build());
+    }
+
+    @PUT
+    @Path("/{id}")
+    @Operation(
+        summary = "Update an existing product",
+        description = "Updates the product with the specified ID"
+    )
+    @APIResponse(
+        responseCode = "404",
+        description = "Product not found"
+    )
+    @APIResponse(
+        responseCode = "400",
+        description = "Invalid input data"
+    )
+    public Uni<Response> updateProduct(
+        @Parameter(description = "Product ID", required = true)
+        @PathParam("id") Long id,
+        @Valid ProductRequest request) {
+        return productService.updateProduct(id, request).map(product -> Response.ok(product).build());
+    }
+
+    @DELETE
+    @Path("/{id}")
+    @Operation(
+        summary = "Delete a product",
+        description = "Deletes the product with the specified ID"
+    )
+    @APIResponse(
+        responseCode = "204",
+        description = "Product deleted successfully"
+    )
+    @APIResponse(
+        responseCode = "404",
+        description = "Product not found"
+    )
+    public Uni<Response> deleteProduct(
+        @Parameter(description = "Product ID", required = true)
+        @PathParam("id") Long id) {
+        return productService.deleteProduct(id).replaceWith(Response.noContent().build());
+    }
+}
@@ -0,0 +1,170 @@
+package com.autoflex.inventory.service;
+
+import com.autoflex.inventory.dto.ProductPage;
+import com.autoflex.inventory.dto.ProductRequest;
+import com.autoflex.inventory.dto.ProductResponse;
+import com.autoflex.inventory.entity.Product;
+import com.autoflex.inventory.event.ProductChangedEvent;
+import com.autoflex.inventory.exception.ResourceNotFoundException;
+import com.autoflex.inventory.repository.ReactiveProductRepository;
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.quarkus.hibernate.reactive.panache.common.WithSession;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.pgclient.PgException;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.ConstraintViolationException.ConstraintKind;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+public class ReactiveProductService {
+
+    @Inject
+    ReactiveProductRepository productRepository;
+
+    @Inject
+    ProductCounters productCounters;
+
+    @Inject
+    Event<ProductChangedEvent> productChanged;
+
+    @ConfigProperty(name = "inventory.products.page.default-size", defaultValue = "100")
+    int defaultPageSize;
+
+    @ConfigProperty(name = "inventory.products.page.max-size", defaultValue = "1000")
+    int maxPageSize;
+
+    @ConfigProperty(name = "inventory.products.stream.fetch-size", defaultValue = "500")
+    int streamFetchSize;
+
+    @WithSession
+    public Uni<ProductPage> getProductsPage(Long after, Integer limit) {
+        int pageSize = limit == null ? defaultPageSize : limit;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            return Uni.createFrom().failure(
+                new IllegalArgumentException("Limit must be between 1 and " + maxPageSize));
+        }
+
+        return productRepository.findPageAfter(after == null ? 0L : after, pageSize + 1)
+            .map(products -> {
+                Long nextCursor = null;
+                if (products.size() > pageSize) {
+                    products = products.subList(0, pageSize);
+                    nextCursor = products.get(pageSize - 1).id;
+                }
+                return new ProductPage(toResponses(products), nextCursor);
+            });
+    }
+
+    public Multi<ProductResponse> streamAllProducts() {
+        return Multi.createBy().repeating()
+            .uni(() -> new long[] {0L}, cursor -> Panache.withSession(() ->
+                    productRepository.findPageAfter(cursor[0], streamFetchSize))
+                .invoke(products -> {
+                    if (!products.isEmpty()) {
+                        cursor[0] = products.get(products.size() - 1).id;
+                    }
+                }))
+            .until(List::isEmpty)
+            .onItem().<Product>disjoint()
+            .map(ProductService::toResponse);
+    }
+
+    @WithSession
+    public Uni<ProductResponse> getProductById(Long id) {
+        return productRepository.findById(id)
+            .onItem().ifNull().failWith(() -> new ResourceNotFoundException("Product not found with id: " + id))
+            .map(ProductService::toResponse);
+    }
+
+    @WithSession
+    public Uni<ProductResponse> getProductByCode(String code) {
+        return productRepository.findByCode(code)
+            .onItem().ifNull().failWith(() -> new ResourceNotFoundException("Product not found with code: " + code))
+            .map(ProductService::toResponse);
+    }
+
+    @WithSession
+    public Uni<List<ProductResponse>> getProductsByValueRange(BigDecimal minValue, BigDecimal maxValue) {
+        return productRepository.findByValueRange(minValue, maxValue).map(this::toResponses);
+    }
+
+    @WithSession
+    public Uni<List<ProductResponse>> getProductsSortedByValueDesc() {
+        return productRepository.findAllOrderByValueDesc().map(this::toResponses);
+    }
+
+    public Uni<ProductResponse> createProduct(ProductRequest request) {
+        return Panache.withTransaction(() -> productRepository.persist(ProductService.toEntity(request))
+                .call(product -> productRepository.recordChange(product.id, product.code,
+                    ProductChangedEvent.Type.CREATED))
+                .call(product -> productRepository.addToCounters(productCounters.nextSlot(), 1, product.value)))
+            .onFailure(ReactiveProductService::isDuplicateCode).transform(e -> duplicateCode(request, e))
+            .invoke(product -> productChanged.fire(
+                ProductChangedEvent.created(product.id, product.code, product.value)))
+            .map(ProductService::toResponse);
+    }
+
+    public Uni<ProductResponse> updateProduct(Long id, ProductRequest request) {
+        ProductChangedEvent[] changed = new ProductChangedEvent[1];
+        return Panache.withTransaction(() -> productRepository.findById(id)
+                .onItem().ifNull().failWith(() -> new ResourceNotFoundException("Product not found with id: " + id))
+                .invoke(product -> {
+                    changed[0] = ProductChangedEvent.updated(product.id, product.code, request.getCode(),
+                        product.value, request.getValue());
+                    product.code = request.getCode();
+                    product.name = request.getName();
+                    product.value = request.getValue();
+                })
+                .call(product -> productRepository.recordChange(product.id, product.code,
+                    ProductChangedEvent.Type.UPDATED))
+                .call(() -> productRepository.addToCounters(productCounters.nextSlot(), 0,
+                    changed[0].getValue().subtract(changed[0].getPreviousValue()))))
+            .onFailure(ReactiveProductService::isDuplicateCode).transform(e -> duplicateCode(request, e))
+            .invoke(() -> productChanged.fire(changed[0]))
+            .map(ProductService::toResponse);
+    }
+
+    public Uni<Void> deleteProduct(Long id) {
+        return Panache.withTransaction(() -> productRepository.findById(id)
+                .onItem().ifNull().failWith(() -> new ResourceNotFoundException("Product not found with id: " + id))
+                .call(product -> productRepository.delete(product))
+                .call(product -> productRepository.recordChange(product.id, product.code,
+                    ProductChangedEvent.Type.DELETED))
+                .call(product -> productRepository.addToCounters(productCounters.nextSlot(), -1,
+                    product.value.negate())))
+            .invoke(product -> productChanged.fire(
+                ProductChangedEvent.deleted(product.id, product.code, product.value)))
+            .replaceWithVoid();
+    }
+
+    // As on the blocking path, the unique constraint on product.code decides instead of a racy lookup beforehand. The
+    // violation may arrive converted by Hibernate or as the driver's own exception.
+    private static boolean isDuplicateCode(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException) {
+                return ((ConstraintViolationException) cause).getKind() == ConstraintKind.UNIQUE;
+            }
+            if (cause instanceof PgException) {
+                return Product.CODE_CONSTRAINT.equals(((PgException) cause).getConstraint());
+            }
+        }
+        return false;
+    }
+
+    private static IllegalArgumentException duplicateCode(ProductRequest request, Throwable failure) {
+        return new IllegalArgumentException("Product code already exists: " + request.getCode(), failure);
+    }
+
+    private List<ProductResponse> toResponses(List<Product> products) {
+        return products.stream()
+            .map(ProductService::toResponse)
+            .collect(Collectors.toList());
+    }
+}
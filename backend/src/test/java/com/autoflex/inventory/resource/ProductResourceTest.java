@@ -1,12 +1,37 @@
 package com.autoflex.inventory.resource;
 
 import com.autoflex.inventory.dto.ProductRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
+import io.restassured.path.json.config.JsonPathConfig;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.*;
 
 import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.*;
@@ -20,6 +45,11 @@ public class ProductResourceTest {
     private static final String PRODUCT_CODE = "TEST001";
     private static final String PRODUCT_NAME = "Test Product";
     private static final BigDecimal PRODUCT_VALUE = new BigDecimal("999.99");
+    private static final JsonPathConfig BIG_DECIMALS =
+        JsonPathConfig.jsonPathConfig().numberReturnType(JsonPathConfig.NumberReturnType.BIG_DECIMAL);
+
+    @Inject
+    EntityManager entityManager;
 
     @BeforeEach
     void setup() {
@@ -207,4 +237,1127 @@ public class ProductResourceTest {
             .then()
             .statusCode(400);
     }
+
+    @Test
+    void testGetAllProductsWithCursor() {
+        long firstId = createProduct("PAGE001", "Paged Product 1", "10.00");
+        long secondId = createProduct("PAGE002", "Paged Product 2", "20.00");
+
+        given()
+            .queryParam("after", firstId - 1)
+            .queryParam("limit", 1)
+            .when()
+            .get()
+            .then()
+            .statusCode(200)
+            .header("X-Next-Cursor", String.valueOf(firstId))
+            .body("size()", equalTo(1))
+            .body("[0].id", equalTo((int) firstId));
+
+        given()
+            .queryParam("after", firstId)
+            .queryParam("limit", 1)
+            .when()
+            .get()
+            .then()
+            .statusCode(200)
+            .body("[0].id", equalTo((int) secondId));
+    }
+
+    @Test
+    void testGetAllProductsWithInvalidLimit() {
+        given()
+            .queryParam("limit", 0)
+            .when()
+            .get()
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void testStreamAllProducts() {
+        createProduct("STREAM001", "Streamed Product", "15.00");
+
+        given()
+            .when()
+            .get("/stream")
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("code", hasItem("STREAM001"));
+    }
+
+    @Test
+    void testGetProductStats() {
+        createProduct("STATS001", "Stats Product", "42.00");
+
+        given()
+            .when()
+            .get("/stats/summary")
+            .then()
+            .statusCode(200)
+            .body("count", greaterThanOrEqualTo(1))
+            .body("totalValue", notNullValue())
+            .body("minValue", notNullValue())
+            .body("maxValue", notNullValue())
+            .body("averageValue", notNullValue());
+
+        given()
+            .queryParam("buckets", 5)
+            .when()
+            .get("/stats/value-buckets")
+            .then()
+            .statusCode(200)
+            .body("size()", greaterThanOrEqualTo(1));
+
+        given()
+            .queryParam("p", 50)
+            .queryParam("p", 99)
+            .when()
+            .get("/stats/percentiles")
+            .then()
+            .statusCode(200)
+            .body("size()", equalTo(2))
+            .body("value", everyItem(notNullValue()));
+    }
+
+    @Test
+    void testValueBucketBoundsMatchTheirCounts() {
+        // Pins the catalog range to [0.01, 1000000.01]: thirds of it round up to 333333.34, which moves the second
+        // edge from 666666.6767 to 666666.69.
+        createProduct("BUCKET001", "Bucket Product 1", "0.01");
+        createProduct("BUCKET002", "Bucket Product 2", "1000000.01");
+        createProduct("BUCKET003", "Bucket Product 3", "666666.68");
+
+        List<BigDecimal> values = new ArrayList<>();
+        Long after = null;
+        do {
+            var request = given().queryParam("limit", 100);
+            if (after != null) {
+                request.queryParam("after", after);
+            }
+            var response = request.when().get().then().statusCode(200).extract();
+            values.addAll(response.jsonPath(BIG_DECIMALS).getList("value", BigDecimal.class));
+            String cursor = response.header(ProductResource.NEXT_CURSOR_HEADER);
+            after = cursor == null ? null : Long.valueOf(cursor);
+        } while (after != null);
+
+        var buckets = given()
+            .queryParam("buckets", 3)
+            .when()
+            .get("/stats/value-buckets")
+            .then()
+            .statusCode(200)
+            .body("size()", equalTo(3))
+            .extract()
+            .jsonPath(BIG_DECIMALS);
+        for (int i = 0; i < 3; i++) {
+            BigDecimal lower = buckets.getObject("[" + i + "].lowerBound", BigDecimal.class);
+            BigDecimal upper = buckets.getObject("[" + i + "].upperBound", BigDecimal.class);
+            boolean last = i == 2;
+            long expected = values.stream()
+                .filter(value -> value.compareTo(lower) >= 0)
+                .filter(value -> last ? value.compareTo(upper) <= 0 : value.compareTo(upper) < 0)
+                .count();
+            Assertions.assertEquals(expected, buckets.getLong("[" + i + "].count"),
+                "Bucket [" + lower + ", " + upper + ")");
+        }
+    }
+
+    @Test
+    void testCountersFollowProductWrites() {
+        long count = given().when().get("/count").then().statusCode(200).extract().as(Long.class);
+        BigDecimal totalValue = new BigDecimal(given().when().get("/stats/total-value").asString());
+
+        long id = createProduct("COUNTER001", "Counted Product", "15.50");
+        ProductRequest request = new ProductRequest();
+        request.setCode("COUNTER001");
+        request.setName("Counted Product");
+        request.setValue(new BigDecimal("20.25"));
+        given()
+            .contentType(ContentType.JSON)
+            .body(request)
+            .pathParam("id", id)
+            .when()
+            .put("/{id}")
+            .then()
+            .statusCode(200);
+        createProduct("COUNTER002", "Counted Product 2", "4.75");
+
+        given().when().get("/count").then().statusCode(200).body(equalTo(String.valueOf(count + 2)));
+        Assertions.assertEquals(0, totalValue.add(new BigDecimal("25.00"))
+            .compareTo(new BigDecimal(given().when().get("/stats/total-value").asString())));
+
+        given().pathParam("id", id).when().delete("/{id}").then().statusCode(204);
+
+        given().when().get("/count").then().statusCode(200).body(equalTo(String.valueOf(count + 1)));
+        Assertions.assertEquals(0, totalValue.add(new BigDecimal("4.75"))
+            .compareTo(new BigDecimal(given().when().get("/stats/total-value").asString())));
+
+        // Set-based writes add up the deltas of all their rows.
+        given()
+            .contentType(ContentType.JSON)
+            .body("[{\"code\":\"COUNTER003\",\"name\":\"Counted Product 3\",\"value\":1.00}," +
+                "{\"code\":\"COUNTER004\",\"name\":\"Counted Product 4\",\"value\":2.00}]")
+            .when()
+            .post("/import")
+            .then()
+            .statusCode(200)
+            .body("imported", equalTo(2));
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"codes\":[\"COUNTER003\",\"COUNTER004\"],\"changeType\":\"AMOUNT\",\"amount\":1}")
+            .when()
+            .post("/bulk/update")
+            .then()
+            .statusCode(200);
+
+        given().when().get("/count").then().statusCode(200).body(equalTo(String.valueOf(count + 3)));
+        Assertions.assertEquals(0, totalValue.add(new BigDecimal("9.75"))
+            .compareTo(new BigDecimal(given().when().get("/stats/total-value").asString())));
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"codes\":[\"COUNTER003\",\"COUNTER004\"]}")
+            .when()
+            .post("/bulk/delete")
+            .then()
+            .statusCode(200);
+
+        given().when().get("/count").then().statusCode(200).body(equalTo(String.valueOf(count + 1)));
+        Assertions.assertEquals(0, totalValue.add(new BigDecimal("4.75"))
+            .compareTo(new BigDecimal(given().when().get("/stats/total-value").asString())));
+    }
+
+    @Test
+    void testGetValueBucketsWithInvalidCount() {
+        given()
+            .queryParam("buckets", 0)
+            .when()
+            .get("/stats/value-buckets")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void testCachedProductIsInvalidatedOnUpdate() {
+        long id = createProduct("CACHE001", "Cached Product", "30.00");
+
+        given()
+            .pathParam("code", "CACHE001")
+            .when()
+            .get("/code/{code}")
+            .then()
+            .statusCode(200)
+            .body("name", equalTo("Cached Product"));
+
+        ProductRequest request = new ProductRequest();
+        request.setCode("CACHE002");
+        request.setName("Renamed Cached Product");
+        request.setValue(new BigDecimal("31.00"));
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(request)
+            .pathParam("id", id)
+            .when()
+            .put("/{id}")
+            .then()
+            .statusCode(200);
+
+        given()
+            .pathParam("code", "CACHE001")
+            .when()
+            .get("/code/{code}")
+            .then()
+            .statusCode(404);
+
+        given()
+            .pathParam("id", id)
+            .when()
+            .get("/{id}")
+            .then()
+            .statusCode(200)
+            .body("code", equalTo("CACHE002"))
+            .body("name", equalTo("Renamed Cached Product"));
+
+        given()
+            .when()
+            .get("/cache/stats")
+            .then()
+            .statusCode(200)
+            .body("enabled", equalTo(true))
+            .body("misses", greaterThanOrEqualTo(1));
+    }
+
+    @Test
+    void testSearchProductsWithLimitAndTypeahead() {
+        createProduct("SRCH001", "Hydraulic Pump", "50.00");
+        createProduct("SRCH002", "Hydraulic Valve", "60.00");
+
+        given()
+            .queryParam("name", "hydraulic")
+            .queryParam("limit", 1)
+            .when()
+            .get("/search")
+            .then()
+            .statusCode(200)
+            .body("size()", equalTo(1));
+
+        given()
+            .queryParam("prefix", "Hydraulic V")
+            .when()
+            .get("/search/typeahead")
+            .then()
+            .statusCode(200)
+            .body("code", hasItem("SRCH002"))
+            .body("code", not(hasItem("SRCH001")));
+
+        given()
+            .when()
+            .get("/search")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void testImportProducts() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("[{\"code\":\"IMP001\",\"name\":\"Imported One\",\"value\":10.50}," +
+                "{\"code\":\"IMP001\",\"name\":\"Imported Duplicate\",\"value\":11.00}," +
+                "{\"code\":\"IMP002\",\"name\":\"\",\"value\":-1}]")
+            .when()
+            .post("/import")
+            .then()
+            .statusCode(200)
+            .body("total", equalTo(3))
+            .body("imported", equalTo(1))
+            .body("failed", equalTo(2))
+            .body("rows[0].success", equalTo(true))
+            .body("rows[0].id", notNullValue())
+            .body("rows[1].success", equalTo(false))
+            .body("rows[2].row", equalTo(3));
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("[{\"code\":\"IMP006\",\"name\":\"Imported Six\",\"value\":6}, {\"code\": oops}]")
+            .when()
+            .post("/import")
+            .then()
+            .statusCode(200)
+            .body("complete", equalTo(false))
+            .body("imported", equalTo(1))
+            .body("failed", equalTo(1))
+            .body("rows[1].row", equalTo(2))
+            .body("rows[1].message", containsString("Malformed JSON"));
+
+        given()
+            .contentType("application/x-ndjson")
+            .body(("{\"code\":\"IMP003\",\"name\":\"Imported Three\",\"value\":3}\n" +
+                "{\"code\":\"IMP001\",\"name\":\"Imported Again\",\"value\":3}\n").getBytes(StandardCharsets.UTF_8))
+            .when()
+            .post("/import")
+            .then()
+            .statusCode(200)
+            .body("imported", equalTo(1))
+            .body("rows[1].message", containsString("already exists"));
+
+        given()
+            .contentType("text/csv")
+            .body("code,name,value\nIMP004,\"Imported, Four\",4.00\nIMP005,Imported Five,abc\n")
+            .when()
+            .post("/import")
+            .then()
+            .statusCode(200)
+            .body("imported", equalTo(1))
+            .body("failed", equalTo(1));
+
+        given()
+            .pathParam("code", "IMP004")
+            .when()
+            .get("/code/{code}")
+            .then()
+            .statusCode(200)
+            .body("name", equalTo("Imported, Four"));
+    }
+
+    @Test
+    void testBulkUpdateAndDeleteProducts() {
+        long firstId = createProduct("BULK001", "Bulk Product 1", "100.00");
+        createProduct("BULK002", "Bulk Product 2", "200.00");
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"codes\":[\"BULK001\",\"BULK002\"],\"changeType\":\"PERCENTAGE\",\"amount\":10}")
+            .when()
+            .post("/bulk/update")
+            .then()
+            .statusCode(200)
+            .body("affected", equalTo(2));
+
+        given()
+            .pathParam("id", firstId)
+            .when()
+            .get("/{id}")
+            .then()
+            .statusCode(200)
+            .body("value", equalTo(110.0f));
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"codes\":[\"BULK001\",\"BULK002\"],\"changeType\":\"AMOUNT\",\"amount\":-150}")
+            .when()
+            .post("/bulk/update")
+            .then()
+            .statusCode(400);
+
+        given()
+            .pathParam("code", "BULK002")
+            .when()
+            .get("/code/{code}")
+            .then()
+            .statusCode(200)
+            .body("value", equalTo(220.0f));
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"ids\":[" + firstId + "],\"codes\":[\"BULK002\"]}")
+            .when()
+            .post("/bulk/delete")
+            .then()
+            .statusCode(200)
+            .body("affected", equalTo(2));
+
+        given()
+            .pathParam("id", firstId)
+            .when()
+            .get("/{id}")
+            .then()
+            .statusCode(404);
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{}")
+            .when()
+            .post("/bulk/delete")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void testMetricsAreExposed() {
+        given()
+            .pathParam("id", 987654)
+            .when()
+            .get("/{id}")
+            .then()
+            .statusCode(404);
+
+        given()
+            .basePath("")
+            .when()
+            .get("/q/metrics")
+            .then()
+            .statusCode(200)
+            .body(containsString("http_server_requests_seconds_bucket"))
+            .body(containsString("uri=\"/api/products/{id}\""))
+            .body(containsString("inventory_service_seconds_count"))
+            .body(containsString("method=\"getProductById\""))
+            .body(containsString("inventory_repository_seconds_count"))
+            .body(containsString("inventory_exceptions_total{exception=\"ResourceNotFoundException\""))
+            .body(containsString("agroal_active_count"));
+    }
+
+    @Test
+    void testIfMatchOnUpdateAndDelete() {
+        long id = createProduct("MATCH001", "Matched Product", "10.00");
+        String original = given().pathParam("id", id).when().get("/{id}").then().statusCode(200)
+            .body("version", equalTo(0))
+            .extract().header("ETag");
+
+        String updated =
+            given()
+                .contentType(ContentType.JSON)
+                .header("If-Match", original)
+                .body("{\"code\":\"MATCH001\",\"name\":\"Matched Product\",\"value\":12.00}")
+                .pathParam("id", id)
+                .when()
+                .put("/{id}")
+                .then()
+                .statusCode(200)
+                .header("ETag", not(equalTo(original)))
+                .body("version", equalTo(1))
+                .extract()
+                .header("ETag");
+
+        given()
+            .contentType(ContentType.JSON)
+            .header("If-Match", original)
+            .body("{\"code\":\"MATCH001\",\"name\":\"Lost Update\",\"value\":13.00}")
+            .pathParam("id", id)
+            .when()
+            .put("/{id}")
+            .then()
+            .statusCode(412);
+
+        given().header("If-Match", original).pathParam("id", id).when().delete("/{id}").then().statusCode(412);
+        given().header("If-Match", "\"unknown\"").pathParam("id", id).when().delete("/{id}").then().statusCode(412);
+
+        given()
+            .pathParam("id", id)
+            .when()
+            .get("/{id}")
+            .then()
+            .statusCode(200)
+            .header("ETag", equalTo(updated))
+            .body("value", equalTo(12.0f));
+
+        given().header("If-Match", updated).pathParam("id", id).when().delete("/{id}").then().statusCode(204);
+    }
+
+    @Test
+    void testConcurrentUpdatesAreRetried() throws Exception {
+        long id = createProduct("RETRY001", "Retried Product", "10.00");
+
+        int writers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                String body = "{\"code\":\"RETRY001\",\"name\":\"Retried Product\",\"value\":" + (20 + i) + "}";
+                statuses.add(executor.submit(() -> {
+                    start.await();
+                    return given()
+                        .basePath("/api/products")
+                        .contentType(ContentType.JSON)
+                        .body(body)
+                        .pathParam("id", id)
+                        .when()
+                        .put("/{id}")
+                        .statusCode();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> status : statuses) {
+                Assertions.assertEquals(200, status.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        given()
+            .pathParam("id", id)
+            .when()
+            .get("/{id}")
+            .then()
+            .statusCode(200)
+            .body("version", equalTo(writers));
+    }
+
+    @Test
+    void testPatchProduct() {
+        long id = createProduct("PATCH001", "Patched Product", "10.00");
+        createProduct("PATCH002", "Other Product", "20.00");
+
+        String patched =
+            given()
+                .contentType("application/merge-patch+json")
+                .body("{\"value\":15.50}")
+                .pathParam("id", id)
+                .when()
+                .patch("/{id}")
+                .then()
+                .statusCode(200)
+                .body("code", equalTo("PATCH001"))
+                .body("name", equalTo("Patched Product"))
+                .body("value", equalTo(15.5f))
+                .body("version", equalTo(1))
+                .body("updatedAt", notNullValue())
+                .extract()
+                .header("ETag");
+
+        given()
+            .contentType("application/merge-patch+json")
+            .header("If-Match", patched)
+            .body("{\"code\":\"PATCH003\",\"name\":\"Renamed Product\"}")
+            .pathParam("id", id)
+            .when()
+            .patch("/{id}")
+            .then()
+            .statusCode(200)
+            .body("code", equalTo("PATCH003"))
+            .body("name", equalTo("Renamed Product"))
+            .body("value", equalTo(15.5f))
+            .body("version", equalTo(2));
+
+        given()
+            .contentType("application/merge-patch+json")
+            .header("If-Match", patched)
+            .body("{\"value\":99.00}")
+            .pathParam("id", id)
+            .when()
+            .patch("/{id}")
+            .then()
+            .statusCode(412);
+
+        given()
+            .contentType("application/merge-patch+json")
+            .body("{\"code\":\"PATCH002\"}")
+            .pathParam("id", id)
+            .when()
+            .patch("/{id}")
+            .then()
+            .statusCode(400);
+
+        given()
+            .contentType("application/merge-patch+json")
+            .body("{\"value\":null}")
+            .pathParam("id", id)
+            .when()
+            .patch("/{id}")
+            .then()
+            .statusCode(400);
+
+        given()
+            .contentType("application/merge-patch+json")
+            .body("{\"value\":1.00}")
+            .pathParam("id", 999999)
+            .when()
+            .patch("/{id}")
+            .then()
+            .statusCode(404);
+
+        given().when().get("/code/PATCH003").then().statusCode(200)
+            .body("value", equalTo(15.5f))
+            .body("version", equalTo(2));
+    }
+
+    @Test
+    void testUpsertProductByCode() {
+        Number id =
+            given()
+                .contentType(ContentType.JSON)
+                .body("{\"code\":\"UPSERT001\",\"name\":\"Synced Product\",\"value\":10.00}")
+                .when()
+                .put("/code/UPSERT001")
+                .then()
+                .statusCode(201)
+                .header("ETag", notNullValue())
+                .body("version", equalTo(0))
+                .extract()
+                .path("id");
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"code\":\"UPSERT001\",\"name\":\"Resynced Product\",\"value\":11.00}")
+            .when()
+            .put("/code/UPSERT001")
+            .then()
+            .statusCode(200)
+            .body("id", equalTo(id))
+            .body("name", equalTo("Resynced Product"))
+            .body("value", equalTo(11.0f))
+            .body("version", equalTo(1));
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"code\":\"UPSERT002\",\"name\":\"Mismatched Product\",\"value\":11.00}")
+            .when()
+            .put("/code/UPSERT001")
+            .then()
+            .statusCode(400);
+
+        given().when().get("/code/UPSERT002").then().statusCode(404);
+    }
+
+    @Test
+    void testConcurrentCreatesWithSameCode() throws Exception {
+        int writers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        List<Integer> statuses = new ArrayList<>();
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return given()
+                        .basePath("/api/products")
+                        .contentType(ContentType.JSON)
+                        .body("{\"code\":\"UNIQUE001\",\"name\":\"Unique Product\",\"value\":10.00}")
+                        .when()
+                        .post()
+                        .statusCode();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> result : results) {
+                statuses.add(result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(1, statuses.stream().filter(status -> status == 201).count());
+        Assertions.assertEquals(writers - 1, statuses.stream().filter(status -> status == 400).count());
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"code\":\"UNIQUE001\",\"name\":\"Unique Product\",\"value\":10.00}")
+            .when()
+            .post()
+            .then()
+            .statusCode(400)
+            .body("message", equalTo("Product code already exists: UNIQUE001"));
+    }
+
+    @Test
+    void testConditionalGetWithETags() {
+        long id = createProduct("ETAG-001", "ETag Product", "10.00");
+
+        String etag =
+            given()
+                .pathParam("id", id)
+                .when()
+                .get("/{id}")
+                .then()
+                .statusCode(200)
+                .header("ETag", notNullValue())
+                .header("Last-Modified", notNullValue())
+                .extract()
+                .header("ETag");
+
+        given()
+            .header("If-None-Match", etag)
+            .pathParam("id", id)
+            .when()
+            .get("/{id}")
+            .then()
+            .statusCode(304)
+            .header("ETag", equalTo(etag));
+
+        given()
+            .header("If-None-Match", etag)
+            .pathParam("code", "ETAG-001")
+            .when()
+            .get("/code/{code}")
+            .then()
+            .statusCode(304);
+
+        String catalogEtag =
+            given()
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .extract()
+                .header("ETag");
+
+        given()
+            .header("If-None-Match", catalogEtag)
+            .when()
+            .get()
+            .then()
+            .statusCode(304);
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"code\":\"ETAG-001\",\"name\":\"ETag Product Updated\",\"value\":11.00}")
+            .pathParam("id", id)
+            .when()
+            .put("/{id}")
+            .then()
+            .statusCode(200);
+
+        given()
+            .header("If-None-Match", etag)
+            .pathParam("id", id)
+            .when()
+            .get("/{id}")
+            .then()
+            .statusCode(200)
+            .header("ETag", not(equalTo(etag)))
+            .body("name", equalTo("ETag Product Updated"));
+
+        String updatedCatalogEtag =
+            given()
+                .header("If-None-Match", catalogEtag)
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .header("ETag", not(equalTo(catalogEtag)))
+                .extract()
+                .header("ETag");
+
+        // A rename changes neither the count nor the total value, but still changes the catalog.
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"code\":\"ETAG-001\",\"name\":\"ETag Product Renamed\",\"value\":11.00}")
+            .pathParam("id", id)
+            .when()
+            .put("/{id}")
+            .then()
+            .statusCode(200);
+
+        given()
+            .header("If-None-Match", updatedCatalogEtag)
+            .when()
+            .get()
+            .then()
+            .statusCode(200)
+            .header("ETag", not(equalTo(updatedCatalogEtag)));
+
+        given()
+            .header("If-None-Match", "\"p0-0\"")
+            .pathParam("id", 987654)
+            .when()
+            .get("/{id}")
+            .then()
+            .statusCode(404);
+    }
+
+    @Test
+    void testProductChangeFeedWithTombstones() {
+        String head = given().when().get("/changes/head").then().statusCode(200).extract().path("cursor");
+        long updatedId = createProduct("FEED001", "Feed Product 1", "10.00");
+        long deletedId = createProduct("FEED002", "Feed Product 2", "20.00");
+
+        ProductRequest update = new ProductRequest();
+        update.setCode("FEED001");
+        update.setName("Feed Product 1 Renamed");
+        update.setValue(new BigDecimal("11.00"));
+        given().contentType(ContentType.JSON).body(update).pathParam("id", updatedId)
+            .when().put("/{id}").then().statusCode(200);
+        given().pathParam("id", deletedId).when().delete("/{id}").then().statusCode(204);
+
+        String nextCursor =
+            given()
+                .queryParam("since", head)
+                .when()
+                .get("/changes")
+                .then()
+                .statusCode(200)
+                .body("items", hasSize(2))
+                .body("items[0].productId", equalTo((int) updatedId))
+                .body("items[0].type", equalTo("UPDATED"))
+                .body("items[0].deleted", equalTo(false))
+                .body("items[0].product.name", equalTo("Feed Product 1 Renamed"))
+                .body("items[1].productId", equalTo((int) deletedId))
+                .body("items[1].type", equalTo("DELETED"))
+                .body("items[1].deleted", equalTo(true))
+                .body("items[1].code", equalTo("FEED002"))
+                .body("items[1].product", nullValue())
+                .body("hasMore", equalTo(false))
+                .extract()
+                .path("nextCursor");
+
+        given()
+            .queryParam("since", nextCursor)
+            .when()
+            .get("/changes")
+            .then()
+            .statusCode(200)
+            .body("items", empty())
+            .body("nextCursor", equalTo(nextCursor));
+
+        given()
+            .queryParam("since", "not-a-cursor")
+            .when()
+            .get("/changes")
+            .then()
+            .statusCode(400);
+
+        // A cursor whose change row is gone may have missed pruned tombstones.
+        given()
+            .queryParam("since", "1-987654321")
+            .when()
+            .get("/changes")
+            .then()
+            .statusCode(410);
+    }
+
+    @Test
+    void testStreamProductChanges() throws Exception {
+        String head = given().when().get("/changes/head").then().statusCode(200).extract().path("cursor");
+        createProduct("SSE001", "Streamed Change 1", "10.00");
+
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + RestAssured.port + "/api/products/changes/stream?since=" + head))
+            .header("Accept", "text/event-stream")
+            .build();
+        HttpResponse<Stream<String>> response = HttpClient.newHttpClient()
+            .sendAsync(request, HttpResponse.BodyHandlers.ofLines())
+            .get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(200, response.statusCode());
+
+        try (Stream<String> lines = response.body()) {
+            Iterator<String> events = lines.filter(line -> line.startsWith("data:")).iterator();
+            CompletableFuture<String> first = CompletableFuture.supplyAsync(events::next);
+            Assertions.assertTrue(first.get(10, TimeUnit.SECONDS).contains("SSE001"));
+
+            createProduct("SSE002", "Streamed Change 2", "20.00");
+            CompletableFuture<String> second = CompletableFuture.supplyAsync(events::next);
+            Assertions.assertTrue(second.get(10, TimeUnit.SECONDS).contains("SSE002"));
+        }
+    }
+
+    @Test
+    void testBinaryFormatsAndCompression() throws Exception {
+        long id = createProduct("CBOR001", "Binary Product", "12.34");
+
+        String jsonTag = given().pathParam("id", id).when().get("/{id}").then().statusCode(200)
+            .extract().header("ETag");
+        byte[] cbor =
+            given()
+                .accept(BinaryFormats.CBOR)
+                .pathParam("id", id)
+                .when()
+                .get("/{id}")
+                .then()
+                .statusCode(200)
+                .contentType(BinaryFormats.CBOR)
+                .header("ETag", not(equalTo(jsonTag)))
+                .header("Vary", containsString("Accept"))
+                .extract()
+                .asByteArray();
+        JsonNode product = new CBORMapper().readTree(cbor);
+        Assertions.assertEquals("CBOR001", product.get("code").asText());
+        Assertions.assertEquals(0, new BigDecimal("12.34").compareTo(product.get("value").decimalValue()));
+
+        // The preferred format wins by quality value, not by its position in Accept.
+        given()
+            .header("Accept", "application/json;q=0.5, " + BinaryFormats.CBOR)
+            .pathParam("id", id)
+            .when()
+            .get("/{id}")
+            .then()
+            .statusCode(200)
+            .contentType(BinaryFormats.CBOR)
+            .header("ETag", endsWith("-cbor\""));
+
+        byte[] smile =
+            given()
+                .accept(BinaryFormats.SMILE)
+                .queryParam("limit", 1000)
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .contentType(BinaryFormats.SMILE)
+                .extract()
+                .asByteArray();
+        Assertions.assertTrue(new SmileMapper().readTree(smile).isArray());
+
+        given()
+            .header("Accept-Encoding", "gzip")
+            .queryParam("limit", 1000)
+            .when()
+            .get()
+            .then()
+            .statusCode(200)
+            .header("Content-Encoding", equalTo("gzip"));
+    }
+
+    @Test
+    void testSparseFieldsets() {
+        createProduct("FIELDS001", "Sparse Fieldset Product", "77.00");
+
+        given()
+            .queryParam("fields", "code,name")
+            .when()
+            .get("/sorted/value-desc")
+            .then()
+            .statusCode(200)
+            .body("find { it.code == 'FIELDS001' }.name", equalTo("Sparse Fieldset Product"))
+            .body("find { it.code == 'FIELDS001' }.keySet()", containsInAnyOrder("code", "name"));
+
+        given()
+            .queryParam("name", "Sparse Fieldset")
+            .queryParam("fields", "value")
+            .when()
+            .get("/search")
+            .then()
+            .statusCode(200)
+            .body("[0].keySet()", contains("value"))
+            .body("[0].value", equalTo(77.0f));
+
+        given()
+            .queryParam("min", "76")
+            .queryParam("max", "78")
+            .queryParam("fields", "code,price")
+            .when()
+            .get("/filter/value-range")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void testQueryProductsWithFiltersSortAndCursor() {
+        createProduct("QRY-001", "Query Gear Small", "30.00");
+        createProduct("QRY-002", "Query Gear Large", "50.00");
+        createProduct("QRY-003", "Query Gear Medium", "40.00");
+        createProduct("QRY-004", "Query Bolt", "45.00");
+
+        String cursor =
+            given()
+                .queryParam("codePrefix", "QRY-")
+                .queryParam("name", "gear")
+                .queryParam("minValue", "35")
+                .queryParam("sort", "value:desc")
+                .queryParam("limit", 1)
+                .queryParam("fields", "code,value")
+                .when()
+                .get("/query")
+                .then()
+                .statusCode(200)
+                .body("code", contains("QRY-002"))
+                .body("[0].keySet()", containsInAnyOrder("code", "value"))
+                .header(ProductResource.NEXT_CURSOR_HEADER, notNullValue())
+                .extract()
+                .header(ProductResource.NEXT_CURSOR_HEADER);
+
+        given()
+            .queryParam("codePrefix", "QRY-")
+            .queryParam("name", "gear")
+            .queryParam("minValue", "35")
+            .queryParam("sort", "value:desc")
+            .queryParam("limit", 1)
+            .queryParam("cursor", cursor)
+            .when()
+            .get("/query")
+            .then()
+            .statusCode(200)
+            .body("code", contains("QRY-003"))
+            .header(ProductResource.NEXT_CURSOR_HEADER, nullValue());
+
+        String mixedCursor =
+            given()
+                .queryParam("codePrefix", "QRY-")
+                .queryParam("sort", "name,value:desc")
+                .queryParam("limit", 2)
+                .when()
+                .get("/query")
+                .then()
+                .statusCode(200)
+                .body("code", contains("QRY-004", "QRY-002"))
+                .extract()
+                .header(ProductResource.NEXT_CURSOR_HEADER);
+
+        given()
+            .queryParam("codePrefix", "QRY-")
+            .queryParam("sort", "name,value:desc")
+            .queryParam("cursor", mixedCursor)
+            .when()
+            .get("/query")
+            .then()
+            .statusCode(200)
+            .body("code", contains("QRY-003", "QRY-001"));
+
+        given()
+            .queryParam("sort", "name")
+            .queryParam("cursor", cursor)
+            .when()
+            .get("/query")
+            .then()
+            .statusCode(400);
+
+        given()
+            .queryParam("sort", "price:desc")
+            .when()
+            .get("/query")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void testQueryCursorWithNullSortKeys() {
+        for (int i = 1; i <= 4; i++) {
+            createProduct("QNULL-00" + i, "Query Null Product " + i, "10.00");
+        }
+        // Rows written outside the API can lack timestamps.
+        QuarkusTransaction.requiringNew().run(() -> entityManager
+            .createNativeQuery("update product set updated_at = null where code in ('QNULL-002', 'QNULL-004')")
+            .executeUpdate());
+
+        List<String> ascending = queryAllPages("updatedAt");
+        Assertions.assertEquals(List.of("QNULL-001", "QNULL-003"), ascending.subList(0, 2));
+        Assertions.assertEquals(Set.of("QNULL-002", "QNULL-004"), Set.copyOf(ascending.subList(2, 4)));
+        List<String> descending = queryAllPages("updatedAt:desc,id");
+        Assertions.assertEquals(List.of("QNULL-003", "QNULL-001", "QNULL-002", "QNULL-004"), descending);
+    }
+
+    // Reads every QNULL product one page at a time, following the cursor.
+    private static List<String> queryAllPages(String sort) {
+        List<String> codes = new ArrayList<>();
+        String cursor = null;
+        do {
+            var request = given().queryParam("codePrefix", "QNULL-").queryParam("sort", sort).queryParam("limit", 1);
+            if (cursor != null) {
+                request.queryParam("cursor", cursor);
+            }
+            var response = request.when().get("/query").then().statusCode(200).extract();
+            codes.addAll(response.<List<String>>path("code"));
+            cursor = response.header(ProductResource.NEXT_CURSOR_HEADER);
+        } while (cursor != null);
+        Assertions.assertEquals(4, codes.size(), "Pages skipped or repeated rows: " + codes);
+        return codes;
+    }
+
+    @Test
+    void testConcurrentStatsReadsAreCoalesced() throws Exception {
+        double before = singleFlightCalls("stats.summary");
+
+        int callers = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                statuses.add(executor.submit(() -> {
+                    start.await();
+                    return given().basePath("/api/products").when().get("/stats/summary").statusCode();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> status : statuses) {
+                Assertions.assertEquals(200, status.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(before + callers, singleFlightCalls("stats.summary"));
+    }
+
+    private double singleFlightCalls(String flight) {
+        String metrics = given().basePath("").when().get("/q/metrics").then().statusCode(200).extract().asString();
+        double total = 0;
+        Matcher matcher = Pattern.compile("^inventory_single_flight_total\\{flight=\"" + Pattern.quote(flight)
+            + "\",result=\"(?:executed|coalesced)\",?} (\\S+)$", Pattern.MULTILINE).matcher(metrics);
+        while (matcher.find()) {
+            total += Double.parseDouble(matcher.group(1));
+        }
+        return total;
+    }
+
+    private long createProduct(String code, String name, String value) {
+        ProductRequest request = new ProductRequest();
+        request.setCode(code);
+        request.setName(name);
+        request.setValue(new BigDecimal(value));
+
+        Number id =
+            given()
+                .contentType(ContentType.JSON)
+                .body(request)
+                .when()
+                .post()
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+        return id.longValue();
+    }
 }
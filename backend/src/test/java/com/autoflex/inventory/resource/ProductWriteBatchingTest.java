@@ -0,0 +1,142 @@
+package com.autoflex.inventory.resource;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+@QuarkusTest
+@TestProfile(ProductWriteBatchingTest.WriteBatching.class)
+public class ProductWriteBatchingTest {
+
+    public static class WriteBatching implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                "inventory.products.write-batching.enabled", "true",
+                "inventory.products.write-batching.max-delay", "50ms");
+        }
+    }
+
+    @BeforeEach
+    void setup() {
+        RestAssured.basePath = "/api/products";
+    }
+
+    @Test
+    void testConcurrentWritesAreBatchedAndKeepCodesUnique() throws Exception {
+        int writers = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        List<Integer> statuses = new ArrayList<>();
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                // Every other writer reuses a code, so half of the creates must be rejected.
+                String code = "BATCH" + String.format("%03d", i / 2);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return given()
+                        .basePath("/api/products")
+                        .contentType(ContentType.JSON)
+                        .body(product(code, "Batched Product", "10.00"))
+                        .when()
+                        .post()
+                        .statusCode();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> result : results) {
+                statuses.add(result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(writers / 2, statuses.stream().filter(status -> status == 201).count());
+        Assertions.assertEquals(writers / 2, statuses.stream().filter(status -> status == 400).count());
+        String metrics = given().basePath("").when().get("/q/metrics").then().statusCode(200).extract().asString();
+        Matcher largestBatch = Pattern.compile("^inventory_products_write_batch_size_max (\\S+)$", Pattern.MULTILINE)
+            .matcher(metrics);
+        Assertions.assertTrue(largestBatch.find());
+        Assertions.assertTrue(Double.parseDouble(largestBatch.group(1)) > 1, "Writes were not batched");
+
+        for (int i = 0; i < writers / 2; i++) {
+            given()
+                .pathParam("code", "BATCH" + String.format("%03d", i))
+                .when()
+                .get("/code/{code}")
+                .then()
+                .statusCode(200);
+        }
+    }
+
+    @Test
+    void testUpdatesToOneProductApplyInOrder() {
+        Number id =
+            given()
+                .contentType(ContentType.JSON)
+                .body(product("ORDER001", "Ordered Product", "1.00"))
+                .when()
+                .post()
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+
+        for (int i = 2; i <= 5; i++) {
+            given()
+                .contentType(ContentType.JSON)
+                .body(product("ORDER001", "Ordered Product", i + ".00"))
+                .pathParam("id", id)
+                .when()
+                .put("/{id}")
+                .then()
+                .statusCode(200)
+                .body("value", equalTo((float) i));
+        }
+
+        given()
+            .pathParam("id", id)
+            .when()
+            .get("/{id}")
+            .then()
+            .statusCode(200)
+            .body("value", equalTo(5.0f));
+
+        given()
+            .pathParam("id", id)
+            .when()
+            .delete("/{id}")
+            .then()
+            .statusCode(204);
+
+        given()
+            .pathParam("id", id)
+            .when()
+            .delete("/{id}")
+            .then()
+            .statusCode(404);
+    }
+
+    private String product(String code, String name, String value) {
+        return "{\"code\":\"" + code + "\",\"name\":\"" + name + "\",\"value\":" + value + "}";
+    }
+}
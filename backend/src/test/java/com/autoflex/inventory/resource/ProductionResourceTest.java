@@ -0,0 +1,311 @@
+package com.autoflex.inventory.resource;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+@QuarkusTest
+public class ProductionResourceTest {
+
+    @BeforeEach
+    void setup() {
+        RestAssured.basePath = "/api";
+    }
+
+    @Test
+    void testCapacityFollowsStockAndBillOfMaterials() {
+        long steel = createMaterial("CAP-STEEL", "Capacity Steel", 100);
+        long paint = createMaterial("CAP-PAINT", "Capacity Paint", 50);
+        long productId = createProduct("CAP-PROD", "Capacity Product", "25.00");
+
+        addMaterial(productId, steel, 10);
+        addMaterial(productId, paint, 5);
+        assertCapacity(productId, 10);
+
+        setStock(paint, 25);
+        assertCapacity(productId, 5);
+
+        setStock(steel, 30);
+        assertCapacity(productId, 3);
+
+        given()
+            .when()
+            .get("/production/capacity")
+            .then()
+            .statusCode(200)
+            .body("find { it.productId == " + productId + " }.maxProducible", equalTo(3));
+
+        given()
+            .pathParam("productId", productId)
+            .pathParam("materialId", steel)
+            .when()
+            .delete("/products/{productId}/materials/{materialId}")
+            .then()
+            .statusCode(204);
+        assertCapacity(productId, 5);
+
+        given()
+            .pathParam("id", paint)
+            .when()
+            .delete("/raw-materials/{id}")
+            .then()
+            .statusCode(204);
+        assertCapacity(productId, 0);
+
+        given()
+            .pathParam("productId", productId)
+            .when()
+            .get("/products/{productId}/materials")
+            .then()
+            .statusCode(200)
+            .body("size()", equalTo(0));
+    }
+
+    @Test
+    void testCapacityOfUnknownProduct() {
+        given()
+            .pathParam("productId", 99999)
+            .when()
+            .get("/production/capacity/{productId}")
+            .then()
+            .statusCode(404);
+    }
+
+    @Test
+    void testExactPlanBeatsGreedyOnSharedMaterial() {
+        long alloy = createMaterial("PLAN-ALLOY", "Plan Alloy", 10);
+        long large = createProduct("PLAN-LARGE", "Plan Large", "10.00");
+        long small = createProduct("PLAN-SMALL", "Plan Small", "6.00");
+        addMaterial(large, alloy, 6);
+        addMaterial(small, alloy, 5);
+
+        given()
+            .queryParam("mode", "greedy")
+            .when()
+            .get("/production/plan")
+            .then()
+            .statusCode(200)
+            .body("mode", equalTo("GREEDY"))
+            .body("items.find { it.productId == " + large + " }.quantity", equalTo(1))
+            .body("items.find { it.productId == " + small + " }", nullValue());
+
+        given()
+            .queryParam("mode", "EXACT")
+            .queryParam("timeBudgetMs", 5000)
+            .when()
+            .get("/production/plan")
+            .then()
+            .statusCode(200)
+            .body("mode", equalTo("EXACT"))
+            .body("optimal", equalTo(true))
+            .body("items.find { it.productId == " + large + " }", nullValue())
+            .body("items.find { it.productId == " + small + " }.quantity", equalTo(2))
+            .body("items.find { it.productId == " + small + " }.subtotal", equalTo(12.0f));
+    }
+
+    @Test
+    void testPlanRejectsInvalidParameters() {
+        given()
+            .queryParam("mode", "FASTEST")
+            .when()
+            .get("/production/plan")
+            .then()
+            .statusCode(400);
+
+        given()
+            .queryParam("timeBudgetMs", 0)
+            .when()
+            .get("/production/plan")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void testReserveConsumeAndReleaseStock() {
+        long frame = createMaterial("RES-FRAME", "Reservation Frame", 10);
+        long bolt = createMaterial("RES-BOLT", "Reservation Bolt", 7);
+        long productId = createProduct("RES-PROD", "Reservation Product", "50.00");
+        addMaterial(productId, frame, 2);
+        addMaterial(productId, bolt, 3);
+
+        Number reservationId =
+            given()
+                .contentType(ContentType.JSON)
+                .body(order(productId, 2))
+                .when()
+                .post("/production/reservations")
+                .then()
+                .statusCode(201)
+                .body("status", equalTo("RESERVED"))
+                .body("materials.find { it.materialId == " + frame + " }.quantity", equalTo(4))
+                .body("materials.find { it.materialId == " + bolt + " }.quantity", equalTo(6))
+                .extract()
+                .path("id");
+        assertStock(frame, 6);
+        assertStock(bolt, 1);
+
+        // Frame could cover this order, bolt cannot: nothing is taken from either.
+        given()
+            .contentType(ContentType.JSON)
+            .body(order(productId, 1))
+            .when()
+            .post("/production/consume")
+            .then()
+            .statusCode(400);
+        assertStock(frame, 6);
+        assertStock(bolt, 1);
+
+        given()
+            .pathParam("id", reservationId)
+            .when()
+            .post("/production/reservations/{id}/release")
+            .then()
+            .statusCode(200)
+            .body("status", equalTo("RELEASED"));
+        assertStock(frame, 10);
+        assertStock(bolt, 7);
+
+        given()
+            .pathParam("id", reservationId)
+            .when()
+            .post("/production/reservations/{id}/consume")
+            .then()
+            .statusCode(400);
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(order(productId, 1))
+            .when()
+            .post("/production/consume")
+            .then()
+            .statusCode(201)
+            .body("status", equalTo("CONSUMED"));
+        assertStock(frame, 8);
+        assertStock(bolt, 4);
+    }
+
+    @Test
+    void testConcurrentOrdersNeverOverdrawStock() throws Exception {
+        long wire = createMaterial("CONC-WIRE", "Concurrent Wire", 10);
+        long productId = createProduct("CONC-PROD", "Concurrent Product", "5.00");
+        addMaterial(productId, wire, 1);
+
+        int orders = 25;
+        ExecutorService executor = Executors.newFixedThreadPool(orders);
+        int accepted = 0;
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < orders; i++) {
+                statuses.add(executor.submit(() -> {
+                    start.await();
+                    return given()
+                        .basePath("/api")
+                        .contentType(ContentType.JSON)
+                        .body(order(productId, 1))
+                        .when()
+                        .post("/production/reservations")
+                        .statusCode();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> status : statuses) {
+                int code = status.get(30, TimeUnit.SECONDS);
+                Assertions.assertTrue(code == 201 || code == 400, "Unexpected status " + code);
+                accepted += code == 201 ? 1 : 0;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(10, accepted);
+        assertStock(wire, 0);
+    }
+
+    private String order(long productId, int quantity) {
+        return "{\"productId\":" + productId + ",\"quantity\":" + quantity + "}";
+    }
+
+    private void assertStock(long materialId, int expected) {
+        given()
+            .pathParam("id", materialId)
+            .when()
+            .get("/raw-materials/{id}")
+            .then()
+            .statusCode(200)
+            .body("stockQuantity", equalTo(expected));
+    }
+
+    private void assertCapacity(long productId, int expected) {
+        given()
+            .pathParam("productId", productId)
+            .when()
+            .get("/production/capacity/{productId}")
+            .then()
+            .statusCode(200)
+            .body("maxProducible", equalTo(expected));
+    }
+
+    private void setStock(long materialId, int quantity) {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"stockQuantity\":" + quantity + "}")
+            .pathParam("id", materialId)
+            .when()
+            .put("/raw-materials/{id}/stock")
+            .then()
+            .statusCode(200);
+    }
+
+    private void addMaterial(long productId, long materialId, int requiredQuantity) {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"materialId\":" + materialId + ",\"requiredQuantity\":" + requiredQuantity + "}")
+            .pathParam("productId", productId)
+            .when()
+            .post("/products/{productId}/materials")
+            .then()
+            .statusCode(201)
+            .body("requiredQuantity", equalTo(requiredQuantity));
+    }
+
+    private long createMaterial(String code, String name, int stock) {
+        Number id =
+            given()
+                .contentType(ContentType.JSON)
+                .body("{\"code\":\"" + code + "\",\"name\":\"" + name + "\",\"stockQuantity\":" + stock + "}")
+                .when()
+                .post("/raw-materials")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+        return id.longValue();
+    }
+
+    private long createProduct(String code, String name, String value) {
+        Number id =
+            given()
+                .contentType(ContentType.JSON)
+                .body("{\"code\":\"" + code + "\",\"name\":\"" + name + "\",\"value\":" + value + "}")
+                .when()
+                .post("/products")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+        return id.longValue();
+    }
+}
@@ -0,0 +1,127 @@
+package com.autoflex.inventory.resource;
+
+import com.autoflex.inventory.dto.RawMaterialRequest;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.*;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+@QuarkusTest
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class RawMaterialResourceTest {
+
+    private static Long createdMaterialId;
+
+    private static final String MATERIAL_CODE = "RM-TEST001";
+    private static final String MATERIAL_NAME = "Test Steel Sheet";
+
+    @BeforeEach
+    void setup() {
+        RestAssured.basePath = "/api/raw-materials";
+    }
+
+    @Test
+    @Order(1)
+    void testCreateRawMaterial() {
+        RawMaterialRequest request = new RawMaterialRequest();
+        request.setCode(MATERIAL_CODE);
+        request.setName(MATERIAL_NAME);
+        request.setStockQuantity(500);
+
+        Number id =
+            given()
+                .contentType(ContentType.JSON)
+                .body(request)
+                .when()
+                .post()
+                .then()
+                .statusCode(201)
+                .body("code", equalTo(MATERIAL_CODE))
+                .body("stockQuantity", equalTo(500))
+                .body("id", notNullValue())
+                .extract()
+                .path("id");
+
+        createdMaterialId = id.longValue();
+    }
+
+    @Test
+    @Order(2)
+    void testCreateRawMaterialWithDuplicateCode() {
+        RawMaterialRequest request = new RawMaterialRequest();
+        request.setCode(MATERIAL_CODE);
+        request.setName("Another Material");
+        request.setStockQuantity(1);
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(request)
+            .when()
+            .post()
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    @Order(3)
+    void testGetRawMaterials() {
+        given()
+            .when()
+            .get()
+            .then()
+            .statusCode(200)
+            .body("code", hasItem(MATERIAL_CODE));
+
+        given()
+            .pathParam("code", MATERIAL_CODE)
+            .when()
+            .get("/code/{code}")
+            .then()
+            .statusCode(200)
+            .body("id", equalTo(createdMaterialId.intValue()));
+    }
+
+    @Test
+    @Order(4)
+    void testUpdateStock() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"stockQuantity\":120}")
+            .pathParam("id", createdMaterialId)
+            .when()
+            .put("/{id}/stock")
+            .then()
+            .statusCode(200)
+            .body("stockQuantity", equalTo(120));
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"stockQuantity\":-1}")
+            .pathParam("id", createdMaterialId)
+            .when()
+            .put("/{id}/stock")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    @Order(5)
+    void testDeleteRawMaterial() {
+        given()
+            .pathParam("id", createdMaterialId)
+            .when()
+            .delete("/{id}")
+            .then()
+            .statusCode(204);
+
+        given()
+            .pathParam("id", createdMaterialId)
+            .when()
+            .get("/{id}")
+            .then()
+            .statusCode(404);
+    }
+}
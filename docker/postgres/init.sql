@@ -1,9 +1,13 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
 CREATE TABLE IF NOT EXISTS product (
     id BIGSERIAL PRIMARY KEY,
     code VARCHAR(50) UNIQUE NOT NULL,
     name VARCHAR(100) NOT NULL,
     value DECIMAL(10,2) NOT NULL CHECK (value >= 0),
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
 CREATE TABLE IF NOT EXISTS raw_material (
@@ -11,7 +15,9 @@ CREATE TABLE IF NOT EXISTS raw_material (
     code VARCHAR(50) UNIQUE NOT NULL,
     name VARCHAR(100) NOT NULL,
     stock_quantity INTEGER NOT NULL CHECK (stock_quantity >= 0),
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
 CREATE TABLE IF NOT EXISTS product_material (
@@ -23,10 +29,56 @@ CREATE TABLE IF NOT EXISTS product_material (
     UNIQUE(product_id, material_id)
 );
 
+CREATE TABLE IF NOT EXISTS product_change (
+    id BIGSERIAL PRIMARY KEY,
+    product_id BIGINT NOT NULL,
+    code VARCHAR(50) NOT NULL,
+    change_type VARCHAR(10) NOT NULL,
+    txid BIGINT NOT NULL DEFAULT (pg_current_xact_id()::text::bigint),
+    changed_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS product_stats_counter (
+    slot INTEGER PRIMARY KEY,
+    product_count BIGINT NOT NULL,
+    total_value DECIMAL(19,2) NOT NULL,
+    change_count BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS stock_reservation (
+    id BIGINT PRIMARY KEY,
+    product_id BIGINT NOT NULL,
+    quantity INTEGER NOT NULL,
+    status VARCHAR(10) NOT NULL,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS stock_reservation_material (
+    reservation_id BIGINT NOT NULL REFERENCES stock_reservation(id),
+    material_id BIGINT NOT NULL,
+    quantity INTEGER NOT NULL
+);
+
+CREATE SEQUENCE IF NOT EXISTS product_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS raw_material_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS product_material_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS product_change_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS stock_reservation_seq START WITH 1 INCREMENT BY 50;
+
 CREATE INDEX idx_product_code ON product(code);
+CREATE INDEX idx_product_name_trgm ON product USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX idx_product_name_prefix ON product (lower(name) text_pattern_ops);
+CREATE INDEX idx_product_code_prefix ON product (code text_pattern_ops);
+CREATE INDEX idx_product_value ON product (value, id);
+CREATE INDEX idx_product_created_at ON product (created_at, id);
+CREATE INDEX idx_product_updated_at ON product (updated_at, id);
 CREATE INDEX idx_material_code ON raw_material(code);
 CREATE INDEX idx_product_material_product ON product_material(product_id);
 CREATE INDEX idx_product_material_material ON product_material(material_id);
+CREATE INDEX idx_product_change_cursor ON product_change(txid, id);
+CREATE INDEX idx_product_change_changed_at ON product_change(changed_at);
+CREATE INDEX idx_stock_reservation_material ON stock_reservation_material(reservation_id);
 
 CREATE OR REPLACE VIEW production_capacity AS
 SELECT 